@@ -0,0 +1,92 @@
+package com.ss.camper;
+
+import com.ss.camper.store.application.dto.StoreDTO;
+import com.ss.camper.store.domain.*;
+import com.ss.camper.user.application.dto.UserInfoDTO;
+import com.ss.camper.user.domain.ClientUser;
+import com.ss.camper.user.domain.TermsType;
+import com.ss.camper.user.domain.UserProfileImage;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → DTO 변환 처리량 비교
+ * modelMapper : 속성 이름을 리플렉션으로 매칭해 변환 (기존 BeanConfig ModelMapper)
+ * of : DTO 의 정적 팩토리에서 getter 를 직접 호출해 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private Store store;
+    private ClientUser user;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        store = Store.builder()
+            .id(1L)
+            .userId(1L)
+            .storeType(StoreType.CAMP_GROUND)
+            .storeStatus(StoreStatus.OPEN)
+            .storeName("하늘 캠핑장")
+            .address(new Address("11516", "경기 양주시 백석읍 양주산성로737번길", "114", 111.11f, 222.22f))
+            .tel("0507-1471-2078")
+            .homepageUrl("https://cafe.naver.com/skycp2004")
+            .introduction("안녕하세요. 하늘 캠핑장입니다..")
+            .openingDays(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+            .openTime(new Date())
+            .closeTime(new Date())
+            .tags(new LinkedHashSet<>(Arrays.asList(
+                StoreTag.builder().id(1L).storeType(StoreType.CAMP_GROUND).title("가족캠핑").build(),
+                StoreTag.builder().id(2L).storeType(StoreType.CAMP_GROUND).title("연인캠핑").build())))
+            .profileImages(Arrays.asList(
+                StoreProfileImage.builder().id(1L).originName("a.jpg").uploadName("1.jpg").fullPath("https://.../1.jpg").path(".../1.jpg").size(1024).ext("JPG").build(),
+                StoreProfileImage.builder().id(2L).originName("b.jpg").uploadName("2.jpg").fullPath("https://.../2.jpg").path(".../2.jpg").size(2048).ext("JPG").build()))
+            .build();
+        user = ClientUser.builder()
+            .id(1L)
+            .email("camper@gmail.com")
+            .password("")
+            .nickname("김캠퍼")
+            .phone("01012345678")
+            .profileImage(UserProfileImage.builder().id(3L).originName("c.jpg").uploadName("3.jpg").fullPath("https://.../3.jpg").path(".../3.jpg").size(512).ext("JPG").build())
+            .created(new Date())
+            .build();
+        user.agreeTerms(TermsType.USE, true);
+        user.agreeTerms(TermsType.PRIVACY_POLICY, true);
+    }
+
+    @Benchmark
+    public StoreDTO modelMapperStore() {
+        return modelMapper.map(store, StoreDTO.class);
+    }
+
+    @Benchmark
+    public StoreDTO ofStore() {
+        return StoreDTO.of(store);
+    }
+
+    @Benchmark
+    public UserInfoDTO modelMapperUser() {
+        return modelMapper.map(user, UserInfoDTO.class);
+    }
+
+    @Benchmark
+    public UserInfoDTO ofUser() {
+        return UserInfoDTO.of(user);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.ss.camper.common.util;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 처리량 비교
+ * legacy : 호출마다 문자열 secret 으로 서명/파서 생성 (기존 JWTUtil 방식)
+ * codec : 미리 생성한 키와 파서를 재사용 (JWTCodec)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTCodecBenchmark {
+
+    private static final String TOKEN_SECRET = "camper-benchmark";
+
+    private JWTCodec jwtCodec;
+    private String legacyToken;
+    private String codecToken;
+
+    @Setup
+    public void setup() {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setTokenSecret(TOKEN_SECRET);
+        jwtCodec = new JWTCodec(authProperties);
+        legacyToken = legacyIssue();
+        codecToken = codecIssue();
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("username", "test@test.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000))
+                .signWith(SignatureAlgorithm.HS256, TOKEN_SECRET)
+                .compact();
+    }
+
+    @Benchmark
+    public String codecIssue() {
+        return jwtCodec.encode(Jwts.builder()
+                .setSubject("1")
+                .claim("username", "test@test.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60 * 60 * 1000)));
+    }
+
+    @Benchmark
+    public Claims legacyVerify() {
+        return Jwts.parser().setSigningKey(TOKEN_SECRET).parseClaimsJws(legacyToken).getBody();
+    }
+
+    @Benchmark
+    public Claims codecVerify() {
+        return jwtCodec.decode(codecToken);
+    }
+
+}
@@ -4,9 +4,11 @@ import com.ss.camper.oauth2.config.AuthProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties(AuthProperties.class)
+@EnableScheduling
 public class CamperApiApplication {
 
 	public static void main(String[] args) {
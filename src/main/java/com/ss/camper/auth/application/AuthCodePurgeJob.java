@@ -0,0 +1,63 @@
+package com.ss.camper.auth.application;
+
+import com.ss.camper.auth.domain.AuthCodeRepositorySupport;
+import com.ss.camper.oauth2.config.AuthProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * auth_code 테이블 정리
+ * 토큰이 만료되었거나 사용된 인증 코드, 보관 기간이 지난 인증 코드를 일정 개수씩 나누어 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthCodePurgeJob {
+
+    private final AuthProperties authProperties;
+    private final AuthCodeRepositorySupport authCodeRepositorySupport;
+
+    private final LongAdder runCount = new LongAdder();
+    private final LongAdder purgedCount = new LongAdder();
+    private volatile long lastPurgedCount;
+
+    @Scheduled(initialDelayString = "${auth.token.auth-code-purge-interval:600000}", fixedDelayString = "${auth.token.auth-code-purge-interval:600000}")
+    public long purge() {
+        final AuthProperties.Token token = authProperties.getToken();
+        final int batchSize = token.getAuthCodePurgeBatchSize();
+        final Date now = new Date();
+        final Date createdBefore = new Date(now.getTime() - token.getAuthCodeRetentionTime());
+
+        long purged = 0;
+        List<Long> ids;
+        do {
+            ids = authCodeRepositorySupport.getPurgeTargetIds(now, createdBefore, batchSize);
+            if (!ids.isEmpty()) purged += authCodeRepositorySupport.deleteByIds(ids);
+        } while (ids.size() == batchSize);
+
+        runCount.increment();
+        purgedCount.add(purged);
+        lastPurgedCount = purged;
+        if (purged > 0) log.info("Auth code purged : {}", purged);
+        return purged;
+    }
+
+    public long getRunCount() {
+        return runCount.sum();
+    }
+
+    public long getPurgedCount() {
+        return purgedCount.sum();
+    }
+
+    public long getLastPurgedCount() {
+        return lastPurgedCount;
+    }
+
+}
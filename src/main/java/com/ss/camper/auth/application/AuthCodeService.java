@@ -5,7 +5,6 @@ import com.ss.camper.auth.domain.AuthCodeRepository;
 import com.ss.camper.common.util.AuthCodeUtil;
 import com.ss.camper.common.util.JWTUtil;
 import com.ss.camper.oauth2.dto.UserPrincipal;
-import com.ss.camper.user.application.dto.UserInfoDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
@@ -42,18 +41,11 @@ public class AuthCodeService {
         return authCode.getAuthCode();
     }
 
-    public String issueAuthCode(final UserInfoDTO user) {
-        return this.issueAuthCode(UserPrincipal.create(user), null);
-    }
-
     @Transactional
     public String issueAuthToken(final String code) {
-        final AuthCode authCode = authCodeRepository.findFirstByAuthCodeOrderByIdDesc(code).orElse(null);
-        if (authCode != null) {
-            return authCode.issueToken();
-        } else {
-            return null;
-        }
+        return authCodeRepository.redeem(code)
+                .map(AuthCode::getToken)
+                .orElse(null);
     }
 
 }
@@ -3,27 +3,33 @@ package com.ss.camper.auth.application;
 import com.ss.camper.auth.application.exception.NotMatchedPasswordException;
 import com.ss.camper.auth.application.exception.NotSignedUpEmailException;
 import com.ss.camper.auth.application.exception.SingInWithdrawUserException;
+import com.ss.camper.common.util.JWTUtil;
+import com.ss.camper.oauth2.dto.UserPrincipal;
 import com.ss.camper.user.application.dto.UserInfoDTO;
 import com.ss.camper.user.domain.User;
 import com.ss.camper.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final ModelMapper modelMapper;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
+    private final JWTUtil JWTUtil;
 
-    @Transactional
+    /**
+     * 이메일 로그인
+     * 비밀번호 검증(BCrypt)은 대기 시간을 포함해 오래 걸리므로, 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 처리
+     * (회원 조회는 조회 메소드의 트랜잭션에서 프로필 fetch plan 으로 모두 적재한 뒤 종료)
+     */
     public UserInfoDTO signIn(final String email, final String password) throws AuthenticationException {
-        final User loginUser = userRepository.findByEmail(email)
+        // 다른 인스턴스에서 방금 가입한 이메일은 Bloom filter 에 아직 없을 수 있으므로 항상 DB 조회
+        final User loginUser = userRepository.findProfileByEmail(email)
             .orElseThrow(NotSignedUpEmailException::new);
 
         if (!passwordEncoder.matches(password, loginUser.getPassword()))
@@ -32,7 +38,13 @@ public class AuthService {
         if (loginUser.isWithdrawal())
             throw new SingInWithdrawUserException();
 
-        return modelMapper.map(loginUser, UserInfoDTO.class);
+        return UserInfoDTO.of(loginUser);
+    }
+
+    // 이메일 로그인은 같은 요청에서 토큰을 응답하므로 인증 코드를 거치지 않고 바로 발급
+    public String issueAuthToken(final UserInfoDTO user) {
+        final UserPrincipal userPrincipal = UserPrincipal.create(user);
+        return JWTUtil.creatAuthToken(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
     }
 
 }
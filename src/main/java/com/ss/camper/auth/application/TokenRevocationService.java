@@ -0,0 +1,39 @@
+package com.ss.camper.auth.application;
+
+import com.ss.camper.auth.domain.TokenRevocation;
+import com.ss.camper.auth.domain.TokenRevocationRepository;
+import com.ss.camper.common.util.TransactionUtil;
+import com.ss.camper.oauth2.application.TokenRevocationList;
+import com.ss.camper.oauth2.config.AuthProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final AuthProperties authProperties;
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final TokenRevocationList tokenRevocationList;
+
+    // 회원의 기존 토큰 모두 무효화 (탈퇴 등)
+    @Transactional
+    public void revokeUser(final long userId) {
+        // 토큰 발급 시각(iat)은 초 단위이므로 같은 초에 발급된 토큰까지 무효화
+        final long revokedBefore = (System.currentTimeMillis() / 1000 + 1) * 1000;
+        final long expiredAt = revokedBefore + authProperties.getToken().getAuthTokenExpirationTime();
+        tokenRevocationRepository.save(TokenRevocation.ofUser(userId, new Date(revokedBefore), new Date(expiredAt)));
+        TransactionUtil.afterCommit(() -> tokenRevocationList.revokeUser(userId, revokedBefore, expiredAt));
+    }
+
+    // 토큰 하나 무효화
+    @Transactional
+    public void revokeToken(final String tokenId, final Date expired) {
+        tokenRevocationRepository.save(TokenRevocation.ofToken(tokenId, expired));
+        TransactionUtil.afterCommit(() -> tokenRevocationList.revokeToken(tokenId, expired.getTime()));
+    }
+
+}
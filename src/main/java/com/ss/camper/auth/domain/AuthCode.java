@@ -15,6 +15,9 @@ import java.util.Date;
 @Entity
 @Table(name = "auth_code", uniqueConstraints = {
         @UniqueConstraint(columnNames = "auth_code")
+}, indexes = {
+        @Index(name = "idx_auth_code_expired", columnList = "expired"),
+        @Index(name = "idx_auth_code_created", columnList = "created")
 })
 public class AuthCode {
 
@@ -1,9 +1,9 @@
 package com.ss.camper.auth.domain;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-
 import java.util.Optional;
 
-public interface AuthCodeRepository extends JpaRepository<AuthCode, Long> {
-    Optional<AuthCode> findFirstByAuthCodeOrderByIdDesc(String code);
+public interface AuthCodeRepository {
+    AuthCode save(AuthCode authCode);
+    // 인증 코드는 한 번만 사용 가능 (사용 처리 후 반환, 이후 같은 코드는 조회되지 않음)
+    Optional<AuthCode> redeem(String code);
 }
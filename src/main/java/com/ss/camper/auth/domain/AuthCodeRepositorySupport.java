@@ -0,0 +1,45 @@
+package com.ss.camper.auth.domain;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public class AuthCodeRepositorySupport extends QuerydslRepositorySupport {
+
+    // 엔티티에 authCode 필드가 있어 기본 Q 타입 변수명과 겹치므로 직접 선언
+    private static final QAuthCode authCode = new QAuthCode("authCode");
+
+    private final JPAQueryFactory queryFactory;
+
+    public AuthCodeRepositorySupport(JPAQueryFactory queryFactory) {
+        super(AuthCode.class);
+        this.queryFactory = queryFactory;
+    }
+
+    // 정리 대상 인증 코드 (토큰 만료 | 사용 완료 | 보관 기간 경과)
+    public List<Long> getPurgeTargetIds(final Date expiredBefore, final Date createdBefore, final int limit) {
+        return queryFactory
+                .select(authCode.id)
+                .from(authCode)
+                .where(authCode.expired.lt(expiredBefore)
+                        .or(authCode.issued.isNotNull())
+                        .or(authCode.created.lt(createdBefore)))
+                .orderBy(authCode.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Transactional
+    public long deleteByIds(final List<Long> ids) {
+        return queryFactory
+                .delete(authCode)
+                .where(authCode.id.in(ids))
+                .execute();
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.ss.camper.auth.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.Date;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "token_revocation", indexes = {
+        @Index(name = "idx_token_revocation_expired", columnList = "expired")
+})
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "token_revocation_id")
+    private Long id;
+
+    // 회원 단위 무효화 : revoked_before 이전에 발급된 해당 회원의 토큰 모두 무효
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "revoked_before")
+    private Date revokedBefore;
+
+    // 토큰 단위 무효화 : 토큰 ID(jti)
+    @Column(name = "token_id")
+    private String tokenId;
+
+    // 무효화 대상 토큰이 모두 만료되는 시각 (이후에는 확인 불필요)
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "expired", nullable = false)
+    private Date expired;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created", nullable = false, insertable = false, updatable = false, columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
+    private Date created;
+
+    public static TokenRevocation ofUser(final long userId, final Date revokedBefore, final Date expired) {
+        return TokenRevocation.builder()
+                .userId(userId)
+                .revokedBefore(revokedBefore)
+                .expired(expired)
+                .build();
+    }
+
+    public static TokenRevocation ofToken(final String tokenId, final Date expired) {
+        return TokenRevocation.builder()
+                .tokenId(tokenId)
+                .expired(expired)
+                .build();
+    }
+
+}
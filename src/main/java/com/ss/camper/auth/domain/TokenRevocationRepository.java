@@ -0,0 +1,10 @@
+package com.ss.camper.auth.domain;
+
+import java.util.Date;
+import java.util.List;
+
+public interface TokenRevocationRepository {
+    TokenRevocation save(TokenRevocation tokenRevocation);
+    List<TokenRevocation> findByExpiredAfter(Date now);
+    void deleteAll();
+}
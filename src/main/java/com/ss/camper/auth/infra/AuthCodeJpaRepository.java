@@ -3,6 +3,24 @@ package com.ss.camper.auth.infra;
 import com.ss.camper.auth.domain.AuthCode;
 import com.ss.camper.auth.domain.AuthCodeRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
 
 public interface AuthCodeJpaRepository extends JpaRepository<AuthCode, Long>, AuthCodeRepository {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AuthCode> findFirstByAuthCodeOrderByIdDesc(String code);
+
+    // 사용된 인증 코드는 [ISSUED] 접두어가 붙어 다시 조회되지 않음
+    @Override
+    @Transactional
+    default Optional<AuthCode> redeem(String code) {
+        final Optional<AuthCode> authCode = findFirstByAuthCodeOrderByIdDesc(code);
+        authCode.ifPresent(AuthCode::issueToken);
+        return authCode;
+    }
+
 }
@@ -0,0 +1,76 @@
+package com.ss.camper.auth.infra;
+
+import com.ss.camper.auth.domain.AuthCode;
+import com.ss.camper.auth.domain.AuthCodeRepository;
+import com.ss.camper.oauth2.config.AuthProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 인증 코드 저장소 (auth.token.auth-code-store: memory 일 때만 사용, 기본값은 jpa)
+ * 인증 코드는 발급 후 수 초 안에 사용되므로 DB 대신 만료 시간이 있는 Map 에 보관
+ * 사용 시 Map 에서 원자적으로 제거하여 한 번만 사용 가능
+ * 인증 코드를 발급한 인스턴스에서만 사용할 수 있으므로 단일 인스턴스이거나 소셜 로그인 콜백과 /auth/token 요청이
+ * 같은 인스턴스로 전달(sticky routing)되는 경우에만 사용
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "auth.token", name = "auth-code-store", havingValue = "memory")
+public class AuthCodeMemoryRepository implements AuthCodeRepository {
+
+    private final long expirationTime;
+    private final Map<String, StoredAuthCode> authCodes = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    public AuthCodeMemoryRepository(final AuthProperties authProperties) {
+        this.expirationTime = authProperties.getToken().getAuthCodeExpirationTime();
+    }
+
+    @Override
+    public AuthCode save(final AuthCode authCode) {
+        final long now = System.currentTimeMillis();
+        purgeExpired(now);
+        authCodes.put(authCode.getAuthCode(), new StoredAuthCode(authCode, now + expirationTime));
+        return authCode;
+    }
+
+    @Override
+    public Optional<AuthCode> redeem(final String code) {
+        final StoredAuthCode storedAuthCode = authCodes.remove(code);
+        if (storedAuthCode == null || storedAuthCode.isExpired(System.currentTimeMillis())) return Optional.empty();
+        storedAuthCode.authCode.issueToken();
+        return Optional.of(storedAuthCode.authCode);
+    }
+
+    public int size() {
+        return authCodes.size();
+    }
+
+    // 사용되지 않은 인증 코드는 만료 시간 주기로 저장 시 정리
+    private void purgeExpired(final long now) {
+        final long purgeAt = nextPurgeAt.get();
+        if (now < purgeAt || !nextPurgeAt.compareAndSet(purgeAt, now + expirationTime)) return;
+        authCodes.values().removeIf(storedAuthCode -> storedAuthCode.isExpired(now));
+    }
+
+    private static class StoredAuthCode {
+        private final AuthCode authCode;
+        private final long expiredAt;
+
+        private StoredAuthCode(final AuthCode authCode, final long expiredAt) {
+            this.authCode = authCode;
+            this.expiredAt = expiredAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expiredAt;
+        }
+    }
+
+}
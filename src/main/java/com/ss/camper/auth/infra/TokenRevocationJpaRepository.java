@@ -0,0 +1,8 @@
+package com.ss.camper.auth.infra;
+
+import com.ss.camper.auth.domain.TokenRevocation;
+import com.ss.camper.auth.domain.TokenRevocationRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TokenRevocationJpaRepository extends JpaRepository<TokenRevocation, Long>, TokenRevocationRepository {
+}
@@ -33,8 +33,7 @@ public class AuthController {
     @PostMapping(name = "이메일 로그인", value = "/authorization")
     public DataApiResponse<SignInPayload.Response> signIn(final @Valid @RequestBody SignInPayload.Request request) throws AuthenticationException {
         final UserInfoDTO userInfoDTO = authService.signIn(request.getEmail().trim(), request.getPassword().trim());
-        final String code = authCodeService.issueAuthCode(userInfoDTO);
-        final String token = authCodeService.issueAuthToken(code);
+        final String token = authService.issueAuthToken(userInfoDTO);
         return new DataApiResponse<>(new SignInPayload.Response(userInfoDTO, token));
     }
 
@@ -3,7 +3,6 @@ package com.ss.camper.common.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,9 +18,6 @@ public class BeanConfig {
         return new ObjectMapper();
     }
 
-    @Bean
-    public ModelMapper modelMapper() { return new ModelMapper(); }
-
     @PersistenceContext
     private EntityManager entityManager;
 
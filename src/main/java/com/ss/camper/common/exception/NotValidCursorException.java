@@ -0,0 +1,9 @@
+package com.ss.camper.common.exception;
+
+import com.ss.camper.common.payload.ApiResponseType;
+
+public class NotValidCursorException extends ConflictException {
+    public NotValidCursorException() {
+        super(ApiResponseType.NOT_VALID_CURSOR);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ss.camper.common.exception;
+
+import com.ss.camper.common.payload.ApiResponseType;
+
+public class PasswordHashBusyException extends ConflictException {
+    public PasswordHashBusyException() {
+        super(ApiResponseType.PASSWORD_HASH_BUSY);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ss.camper.common.filter;
+
+import com.ss.camper.common.util.StatementCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 요청별 SQL 실행 수 집계
+ * 보안 필터(인증 회원 조회)부터 응답 직렬화(지연 로딩)까지 포함하도록 가장 바깥에서 집계
+ * 예산(statement-count.budget)을 넘는 요청은 경고 로그를 남기고, 집계 결과는 요청 속성과 누적 수치로 제공
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = StatementCountFilter.class.getName() + ".COUNT";
+
+    private final long budget;
+    private final double sampleRate;
+
+    private final AtomicLong sampledRequestCount = new AtomicLong();
+    private final AtomicLong statementCount = new AtomicLong();
+    private final AtomicLong overBudgetRequestCount = new AtomicLong();
+    private final LongAccumulator maxStatementCount = new LongAccumulator(Math::max, 0);
+
+    public StatementCountFilter(@Value("${statement-count.budget:20}") final long budget,
+                                @Value("${statement-count.sample-rate:1.0}") final double sampleRate) {
+        this.budget = budget;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final StatementCounter.Counter counter = StatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counter.close();
+            record(request, counter.getCount());
+        }
+    }
+
+    private void record(final HttpServletRequest request, final long count) {
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, count);
+        sampledRequestCount.incrementAndGet();
+        statementCount.addAndGet(count);
+        maxStatementCount.accumulate(count);
+        if (count > budget) {
+            overBudgetRequestCount.incrementAndGet();
+            log.warn("SQL statement budget exceeded : {} {} ({} > {})", request.getMethod(), request.getRequestURI(), count, budget);
+        }
+    }
+
+    public long getSampledRequestCount() {
+        return sampledRequestCount.get();
+    }
+
+    public long getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getOverBudgetRequestCount() {
+        return overBudgetRequestCount.get();
+    }
+
+    public long getMaxStatementCount() {
+        return maxStatementCount.get();
+    }
+
+}
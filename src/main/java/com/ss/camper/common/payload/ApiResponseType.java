@@ -16,6 +16,7 @@ public enum ApiResponseType {
     // BAD_REQUEST
     REQUEST_NOT_VALID(HttpStatus.BAD_REQUEST, 101, "Request is Not valid"),
     REQUEST_METHOD_NOT_SUPPORT(HttpStatus.BAD_REQUEST, 102, "Method Not supported"),
+    NOT_VALID_CURSOR(HttpStatus.BAD_REQUEST, 103, "Not valid Cursor"),
 
     // UNAUTHORIZED
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, 101, "Unauthorized"),
@@ -32,6 +33,13 @@ public enum ApiResponseType {
     NOT_VALID_TOKEN(HttpStatus.FORBIDDEN, 101, "Not valid Token"),
     EXPIRED_TOKEN(HttpStatus.FORBIDDEN, 102, "Expired Token"),
     UNSUPPORTED_TOKEN(HttpStatus.FORBIDDEN, 103, "Unsupported Token"),
+    REVOKED_TOKEN(HttpStatus.FORBIDDEN, 104, "Revoked Token"),
+
+    // TOO_MANY_REQUESTS
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 101, "Too many requests"),
+
+    // SERVICE_UNAVAILABLE
+    PASSWORD_HASH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 101, "Too many Password requests"),
 
     // User 관련 CONFLICT
     NOT_SIGNED_UP_EMAIL(HttpStatus.CONFLICT, 101, "Not signed up Email"),
@@ -47,6 +55,7 @@ public enum ApiResponseType {
     // Store 관련 CONFLICT
     NOT_FOUND_STORE(HttpStatus.CONFLICT, 401, "Not found store"),
     NOT_SUPPLY_STORE_TYPE(HttpStatus.CONFLICT, 402, "Not supply Store type"),
+    ALREADY_USED_STORE_TAG(HttpStatus.CONFLICT, 403, "Already used Store tag in other Store type"),
 
     // File 관련 CONFLICT
     FILE_UPLOAD_FAILED(HttpStatus.CONFLICT, 501, "File upload Failed");
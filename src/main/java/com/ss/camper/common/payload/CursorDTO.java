@@ -0,0 +1,36 @@
+package com.ss.camper.common.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+@ToString
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorDTO<T> {
+
+    private List<T> content;
+
+    @JsonProperty("size")
+    private long size;
+
+    @JsonProperty("next")
+    private String nextCursor;
+
+    /**
+     * size + 1 건을 조회한 결과로 다음 페이지 존재 여부를 판단하고 다음 커서를 생성
+     */
+    public static <T> CursorDTO<T> of(final List<T> fetched, final int size, final Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorDTO<>(fetched, size, null);
+        }
+        final List<T> content = fetched.subList(0, size);
+        final Long lastId = idExtractor.apply(content.get(content.size() - 1));
+        return new CursorDTO<>(content, size, CursorPagingRequest.encode(lastId));
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.ss.camper.common.payload;
+
+import com.ss.camper.common.exception.NotValidCursorException;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@ToString
+public class CursorPagingRequest {
+
+    private final static int DEFAULT_SIZE = 10;
+    private final static int MAX_SIZE = 50;
+
+    private int size;
+    private Long after;
+
+    public CursorPagingRequest(int size, String after) {
+        this.setSize(size);
+        this.after = decode(after);
+    }
+
+    public void setSize(int size) {
+        size = size <= 0 ? DEFAULT_SIZE : size;
+        this.size = Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 마지막으로 조회한 고유번호를 외부에 노출하지 않도록 커서 문자열로 변환
+     */
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) return null;
+        try {
+            final long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (id <= 0) throw new NotValidCursorException();
+            return id;
+        } catch (IllegalArgumentException e) { // Base64 디코딩 실패 | 숫자 변환 실패
+            throw new NotValidCursorException();
+        }
+    }
+
+}
@@ -28,8 +28,11 @@ public class DefaultApiResponse {
     }
 
     public static void response(ApiResponseType apiResponseType) {
+        response(((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getResponse(), apiResponseType);
+    }
+
+    public static void response(HttpServletResponse response, ApiResponseType apiResponseType) {
         try {
-            HttpServletResponse response = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getResponse();
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             response.setCharacterEncoding("UTF-8");
             response.setStatus(apiResponseType.getStatus().value());
@@ -1,5 +1,6 @@
 package com.ss.camper.common.payload;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
@@ -8,14 +9,15 @@ import java.util.List;
 @ToString
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 public class PageDTO<T> {
 
     private List<T> content;
 
+    // 전체 건수를 생략한 경우 응답에서 제외
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonProperty("count")
-    private long totalElements;
+    private Long totalElements;
 
     @JsonProperty("size")
     private long size;
@@ -23,8 +25,31 @@ public class PageDTO<T> {
     @JsonProperty("currentPage")
     private long number;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonProperty("totalPage")
-    private long totalPages;
+    private Long totalPages;
+
+    public PageDTO(List<T> content, long totalElements, long size, long number, long totalPages) {
+        this.content = content;
+        this.totalElements = totalElements;
+        this.size = size;
+        this.number = number;
+        this.totalPages = totalPages;
+    }
+
+    public static <T> PageDTO<T> of(List<T> content, long totalElements, PagingRequest pagingRequest) {
+        final long totalPages = (totalElements + pagingRequest.getSize() - 1) / pagingRequest.getSize();
+        return new PageDTO<>(content, totalElements, pagingRequest.getSize(), pagingRequest.getPage() - 1, totalPages);
+    }
+
+    // 전체 건수/페이지 없이 목록만 반환 (COUNT 생략)
+    public static <T> PageDTO<T> withoutTotal(List<T> content, PagingRequest pagingRequest) {
+        final PageDTO<T> page = new PageDTO<>();
+        page.content = content;
+        page.size = pagingRequest.getSize();
+        page.number = pagingRequest.getPage() - 1;
+        return page;
+    }
 
     public long getNumber() {
         return number + 1;
@@ -0,0 +1,73 @@
+package com.ss.camper.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter
+ * mightContain 이 false 면 추가된 적 없는 값이므로 대부분의 조회를 Map 조회 없이 끝냄
+ * 비트 배열을 CAS 로 갱신하므로 추가/조회 모두 잠금 없이 동작 (제거 불가, 필요 시 새로 생성)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public BloomFilter(final int expectedInsertions, final double falsePositiveProbability) {
+        final int insertions = Math.max(1, expectedInsertions);
+        final long optimalBitSize = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(Long.SIZE, Math.min(Integer.MAX_VALUE - Long.SIZE, optimalBitSize));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    public void put(final String value) {
+        final long hash = hash(value);
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    public boolean mightContain(final String value) {
+        final long hash = hash(value);
+        final int hash1 = (int) hash;
+        final int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            final int index = index(hash1 + i * hash2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    private int index(final int combinedHash) {
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitSize;
+    }
+
+    private void setBit(final int index) {
+        final int wordIndex = index >>> 6;
+        final long mask = 1L << index;
+        long word;
+        do {
+            word = bits.get(wordIndex);
+            if ((word & mask) != 0) return;
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    // FNV-1a 64bit + MurmurHash3 fmix64
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -1,33 +1,25 @@
 package com.ss.camper.common.util;
 
-import org.springframework.util.SerializationUtils;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.util.Base64;
 import java.util.Optional;
 
 public class CookieUtil {
 
-    private static final HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-    private static final HttpServletResponse response = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getResponse();
-
+    /**
+     * 현재 요청의 쿠키 조회
+     * 요청/응답을 정적 필드에 캡처하지 않고 호출 시점의 요청에서 조회
+     */
     public static Optional<Cookie> getCookie(String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null && cookies.length > 0) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(name)) {
-                    return Optional.of(cookie);
-                }
-            }
-        }
-        return Optional.empty();
+        return RequestCookies.current().get(name);
+    }
+
+    public static Optional<Cookie> getCookie(HttpServletRequest request, String name) {
+        return RequestCookies.of(request).get(name);
     }
 
-    public static void addCookie(String name, String value, int maxAge) {
+    public static void addCookie(HttpServletResponse response, String name, String value, int maxAge) {
         Cookie cookie = new Cookie(name, value);
         cookie.setPath("/");
         cookie.setHttpOnly(true);
@@ -36,25 +28,13 @@ public class CookieUtil {
     }
 
     public static void deleteCookie(HttpServletRequest request, HttpServletResponse response, String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null && cookies.length > 0) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(name)) {
-                    cookie.setValue("");
-                    cookie.setPath("/");
-                    cookie.setMaxAge(0);
-                    response.addCookie(cookie);
-                }
-            }
-        }
-    }
-
-    public static String serialize(Object object) {
-        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(object));
-    }
-
-    public static <T> T deserialize(Cookie cookie, Class<T> cls) {
-        return cls.cast(SerializationUtils.deserialize(Base64.getUrlDecoder().decode(cookie.getValue())));
+        getCookie(request, name).ifPresent(cookie -> {
+            Cookie expired = new Cookie(name, "");
+            expired.setPath("/");
+            expired.setHttpOnly(true);
+            expired.setMaxAge(0);
+            response.addCookie(expired);
+        });
     }
 
 }
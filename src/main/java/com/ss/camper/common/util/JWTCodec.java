@@ -0,0 +1,71 @@
+package com.ss.camper.common.util;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증
+ * 서명 키와 파서를 기동 시 한 번만 생성하여 재사용
+ * 서명은 현재 키(kid 헤더 포함)로 하고, 검증은 kid 에 해당하는 키로 하여 키 교체 중에도 이전 키로 발급된 토큰을 검증
+ */
+@Component
+public class JWTCodec {
+
+    // kid 헤더가 없는 토큰(키 교체 기능 이전 발급)의 키 아이디
+    public static final String LEGACY_KEY_ID = "default";
+
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final String signingKeyId;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final JwtParser jwtParser;
+
+    public JWTCodec(final AuthProperties authProperties) {
+        final AuthProperties.Token token = authProperties.getToken();
+        final Map<String, Key> verificationKeys = new HashMap<>();
+        token.getPreviousTokenSecrets().forEach((keyId, secret) -> verificationKeys.put(keyId, createKey(secret)));
+        this.signingKeyId = token.getTokenSecretId();
+        this.signingKey = createKey(token.getTokenSecret());
+        verificationKeys.put(signingKeyId, signingKey);
+        this.verificationKeys = Collections.unmodifiableMap(verificationKeys);
+        // 파싱 시 파서의 상태를 변경하지 않으므로 여러 스레드에서 공유
+        this.jwtParser = Jwts.parser().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return findVerificationKey(header.getKeyId());
+            }
+        });
+    }
+
+    public String encode(final JwtBuilder jwtBuilder) {
+        return jwtBuilder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyId)
+                .signWith(SIGNATURE_ALGORITHM, signingKey)
+                .compact();
+    }
+
+    public Claims decode(final String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private Key findVerificationKey(final String keyId) {
+        final Key key = verificationKeys.get(keyId == null ? LEGACY_KEY_ID : keyId);
+        if (key == null) throw new SignatureException("Unknown signing key id : " + keyId);
+        return key;
+    }
+
+    // 기존 signWith(alg, String) / setSigningKey(String) 과 같은 방식(Base64 디코딩)으로 키 생성
+    private static Key createKey(final String secret) {
+        return new SecretKeySpec(TextCodec.BASE64.decode(secret), SIGNATURE_ALGORITHM.getJcaName());
+    }
+
+}
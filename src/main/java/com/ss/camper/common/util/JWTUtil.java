@@ -1,7 +1,9 @@
 package com.ss.camper.common.util;
 
+import com.ss.camper.oauth2.application.VerifiedTokenCache;
 import com.ss.camper.oauth2.config.AuthProperties;
 import com.ss.camper.oauth2.dto.UserPrincipal;
+import com.ss.camper.oauth2.dto.VerifiedToken;
 import com.ss.camper.oauth2.exception.ExpiredTokenException;
 import com.ss.camper.oauth2.exception.NotValidTokenException;
 import com.ss.camper.oauth2.exception.UnsupportedTokenException;
@@ -14,6 +16,8 @@ import org.springframework.stereotype.Component;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +27,8 @@ public class JWTUtil {
     public static final String BEARER_PREFIX = "Bearer ";
 
     private final AuthProperties AuthProperties;
+    private final JWTCodec jwtCodec;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public String creatAuthToken(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
@@ -41,33 +47,51 @@ public class JWTUtil {
         payloads.put(Claims.SUBJECT, userId);
         payloads.put("username", email);
 
-        return Jwts.builder()
-                .setId(userId)
+        final JwtBuilder jwtBuilder = Jwts.builder()
                 .setSubject(email)
                 .setClaims(payloads)
+                .setId(UUID.randomUUID().toString()) // 토큰 단위 무효화 (TokenRevocationList)
                 .setHeaderParam("typ", "JWT")
                 .setIssuer("Camper")
                 .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS256, AuthProperties.getToken().getTokenSecret())
-                .compact();
+                .setExpiration(expiryDate);
+        return jwtCodec.encode(jwtBuilder);
     }
 
+    // 서명/만료 검증과 파싱을 한 번에 처리
     public Claims getBody(String token) {
-        this.validateToken(token);
-        return Jwts.parser()
-                .setSigningKey(AuthProperties.getToken().getTokenSecret())
-                .parseClaimsJws(token)
-                .getBody();
-
+        try {
+            return jwtCodec.decode(token);
+        } catch (MalformedJwtException | SignatureException | IllegalArgumentException e) { // 유효하지 않은 JWT 서명 | 유효하지 않은 JWT | 빈값
+            throw new NotValidTokenException();
+        } catch (ExpiredJwtException e) { // 만료된 JWT
+            throw new ExpiredTokenException();
+        } catch (UnsupportedJwtException e) { // 지원하지 않는 JWT
+            throw new UnsupportedTokenException();
+        }
     }
 
     public UserPrincipal getPrincipal(String token) {
-        Claims claims = getBody(token);
-        return UserPrincipal.create(UserInfoDTO.builder()
+        return getVerifiedToken(token).getUserPrincipal();
+    }
+
+    // 검증된 토큰 캐시에 있으면 재검증 없이 반환
+    public VerifiedToken getVerifiedToken(String token) {
+        final Optional<VerifiedToken> cachedToken = verifiedTokenCache.get(token);
+        if (cachedToken.isPresent()) return cachedToken.get();
+
+        final Claims claims = getBody(token);
+        final UserPrincipal userPrincipal = UserPrincipal.create(UserInfoDTO.builder()
                 .id(Long.parseLong(claims.getSubject()))
                 .email(String.valueOf(claims.get("username")))
                 .build());
+        final VerifiedToken verifiedToken = new VerifiedToken(
+                userPrincipal,
+                claims.getId(),
+                claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime(),
+                claims.getExpiration() == null ? 0 : claims.getExpiration().getTime());
+        verifiedTokenCache.put(token, verifiedToken);
+        return verifiedToken;
     }
 
     public Date getExpiredDate(String token) {
@@ -75,16 +99,8 @@ public class JWTUtil {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(AuthProperties.getToken().getTokenSecret()).parseClaimsJws(token);
-            return true;
-        } catch (MalformedJwtException | IllegalArgumentException e) { // 유효하지 않은 JWT 서명 | 유효하지 않은 JWT | 빈값
-            throw new NotValidTokenException();
-        } catch (ExpiredJwtException e) { // 만료된 JWT
-            throw new ExpiredTokenException();
-        } catch (UnsupportedJwtException e) { // 지원하지 않는 JWT
-            throw new UnsupportedTokenException();
-        }
+        this.getBody(token);
+        return true;
     }
 
 }
\ No newline at end of file
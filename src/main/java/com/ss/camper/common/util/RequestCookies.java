@@ -0,0 +1,63 @@
+package com.ss.camper.common.util;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 단위 쿠키 조회
+ * 요청당 한 번만 쿠키를 이름별 Map 으로 만들어 요청 속성에 보관하고 이후 조회는 Map 에서 처리
+ */
+public final class RequestCookies {
+
+    private static final String ATTRIBUTE_NAME = RequestCookies.class.getName();
+
+    private final Map<String, Cookie> cookies;
+
+    private RequestCookies(Cookie[] cookies) {
+        if (cookies == null || cookies.length == 0) {
+            this.cookies = Collections.emptyMap();
+            return;
+        }
+        final Map<String, Cookie> map = new HashMap<>(cookies.length * 2);
+        for (Cookie cookie : cookies) {
+            // 같은 이름이 여러 개면 먼저 온 쿠키 사용 (기존 CookieUtil.getCookie 동작과 동일)
+            map.putIfAbsent(cookie.getName(), cookie);
+        }
+        this.cookies = map;
+    }
+
+    public static RequestCookies of(HttpServletRequest request) {
+        final Object cached = request.getAttribute(ATTRIBUTE_NAME);
+        if (cached instanceof RequestCookies) {
+            return (RequestCookies) cached;
+        }
+        final RequestCookies requestCookies = new RequestCookies(request.getCookies());
+        request.setAttribute(ATTRIBUTE_NAME, requestCookies);
+        return requestCookies;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 요청의 쿠키
+     * 요청 컨텍스트가 없으면 빈 쿠키로 처리
+     */
+    public static RequestCookies current() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return new RequestCookies(null);
+        }
+        return of(((ServletRequestAttributes) attributes).getRequest());
+    }
+
+    public Optional<Cookie> get(String name) {
+        return Optional.ofNullable(cookies.get(name));
+    }
+
+}
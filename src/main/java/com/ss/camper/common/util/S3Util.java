@@ -10,8 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.util.Arrays;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,7 +31,6 @@ public class S3Util {
     private String bucket;
     private final String serverUploadDir = "src/main/resources/uploads";
     private final AmazonS3 amazonS3;
-    private final ModelMapper modelMapper;
 
     @Setter
     @Getter
@@ -76,7 +73,15 @@ public class S3Util {
             // Convert 파일 삭제
             convertFileDelete();
 
-            return modelMapper.map(files, new TypeToken<List<UploadFileDTO>>(){}.getType());
+            final List<UploadFileDTO> uploadFiles = new ArrayList<>(files.size());
+            for (ConvertFileDTO file : files) {
+                uploadFiles.add(UploadFileDTO.builder()
+                        .originName(file.getOriginName()).uploadName(file.getUploadName())
+                        .fullPath(file.getFullPath()).path(file.getPath())
+                        .size(file.getSize()).ext(file.getExt())
+                        .build());
+            }
+            return uploadFiles;
         } catch (IOException e) {
             convertFileDelete();
             e.printStackTrace();
@@ -0,0 +1,50 @@
+package com.ss.camper.common.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 수 집계
+ * hibernate.session_factory.statement_inspector 로 등록되어 Hibernate 가 직접 생성하므로 집계 상태는 스레드별로 보관
+ * start() 이후 같은 스레드에서 실행된 SQL 만 집계하고, 중첩된 집계는 종료 시 바깥 집계에 더함
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Counter> currentCounter = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        final Counter counter = currentCounter.get();
+        if (counter != null) counter.count++;
+        return sql;
+    }
+
+    public static Counter start() {
+        final Counter counter = new Counter(currentCounter.get());
+        currentCounter.set(counter);
+        return counter;
+    }
+
+    public static class Counter implements AutoCloseable {
+        private final Counter parent;
+        private long count;
+
+        private Counter(Counter parent) {
+            this.parent = parent;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                parent.count += count;
+                currentCounter.set(parent);
+            } else {
+                currentCounter.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.ss.camper.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    /**
+     * 트랜잭션이 커밋된 후 실행 (트랜잭션이 없으면 즉시 실행)
+     * 롤백된 변경 사항이 메모리 인덱스/캐시에 반영되지 않도록 할 때 사용
+     */
+    public static void afterCommit(final Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+}
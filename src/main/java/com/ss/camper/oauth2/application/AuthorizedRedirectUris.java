@@ -0,0 +1,65 @@
+package com.ss.camper.oauth2.application;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 소셜 로그인 후 이동 가능한 Redirect URI 목록
+ * 설정된 URI 를 미리 파싱하여 host + port + path 로 정규화한 Set 으로 보관
+ * 설정이 다시 적용되면(/actuator/refresh 등) 다시 생성
+ */
+@Slf4j
+@Component
+public class AuthorizedRedirectUris {
+
+    private final AuthProperties authProperties;
+    private volatile Set<String> authorizedRedirectUris;
+
+    public AuthorizedRedirectUris(final AuthProperties authProperties) {
+        this.authProperties = authProperties;
+        this.authorizedRedirectUris = create();
+    }
+
+    // Environment 변경 후 설정 재바인딩이 끝난 뒤 발행되는 이벤트
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void refresh() {
+        authorizedRedirectUris = create();
+        log.info("Authorized redirect uris refreshed : {}", authorizedRedirectUris.size());
+    }
+
+    public boolean isAuthorized(final String uri) {
+        final String key = normalize(uri);
+        return key != null && authorizedRedirectUris.contains(key);
+    }
+
+    private Set<String> create() {
+        final Set<String> uris = new HashSet<>();
+        for (String authorizedRedirectUri : authProperties.getUris().getAuthorizedRedirectUri()) {
+            final String key = normalize(authorizedRedirectUri);
+            if (key != null) uris.add(key);
+        }
+        return Collections.unmodifiableSet(uris);
+    }
+
+    // host(대소문자 무시) + port + path, 잘못된 URI 는 null
+    private static String normalize(final String uri) {
+        if (uri == null) return null;
+        try {
+            final URI parsedUri = URI.create(uri);
+            if (parsedUri.getHost() == null) return null;
+            return parsedUri.getHost().toLowerCase(Locale.ROOT) + ":" + parsedUri.getPort() + parsedUri.getPath();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
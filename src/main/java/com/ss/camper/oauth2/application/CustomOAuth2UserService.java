@@ -1,11 +1,11 @@
 package com.ss.camper.oauth2.application;
 
 import com.ss.camper.common.util.CookieUtil;
-import com.ss.camper.oauth2.config.AuthProperties;
 import com.ss.camper.oauth2.dto.OAuth2UserInfo;
 import com.ss.camper.oauth2.dto.OAuth2UserInfoFactory;
 import com.ss.camper.oauth2.dto.UserPrincipal;
 import com.ss.camper.oauth2.exception.*;
+import com.ss.camper.user.application.RegisteredEmailFilter;
 import com.ss.camper.user.domain.BusinessUser;
 import com.ss.camper.user.domain.BusinessUserRepository;
 import com.ss.camper.user.domain.ClientUser;
@@ -21,7 +21,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.Cookie;
-import java.net.URI;
 import java.util.Optional;
 
 import static com.ss.camper.oauth2.application.HttpCookieOAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME;
@@ -31,10 +30,11 @@ import static com.ss.camper.oauth2.application.HttpCookieOAuth2AuthorizationRequ
 @RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
-    private final AuthProperties AuthProperties;
+    private final AuthorizedRedirectUris authorizedRedirectUris;
     private final UserRepository userRepository;
     private final ClientUserRepository clientUserRepository;
     private final BusinessUserRepository businessUserRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     @Transactional
     @Override
@@ -60,13 +60,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         // redirect uri 확인
         final Optional<Cookie> redirectUriCookie = CookieUtil.getCookie(REDIRECT_URI_PARAM_COOKIE_NAME);
-        if (redirectUriCookie.isEmpty() || !this.isAuthorizedRedirectUri(redirectUriCookie.get().getValue()))
+        if (redirectUriCookie.isEmpty() || !authorizedRedirectUris.isAuthorized(redirectUriCookie.get().getValue()))
             throw new UnsupportedRedirectUriException();
 
         // 로그인 하려는 소셜
         final SocialProvider loginProvider = SocialProvider.valueOf(oAuth2UserRequest.getClientRegistration().getRegistrationId().toUpperCase());
 
-        // 이메일로 회원 조회
+        // 이메일로 회원 조회 (다른 인스턴스에서 방금 가입한 이메일은 Bloom filter 에 아직 없을 수 있으므로 항상 DB 조회)
         final Optional<User> user = userRepository.findByEmail(oAuth2UserInfo.getEmail());
         User loginUser;
 
@@ -91,19 +91,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         return UserPrincipal.create(loginUser);
     }
 
-    private boolean isAuthorizedRedirectUri(final String uri) {
-        final URI clientRedirectUri = URI.create(uri);
-        return AuthProperties.getUris().getAuthorizedRedirectUri()
-                .stream()
-                .anyMatch(authorizedRedirectUri -> {
-                    final URI authorizedURI = URI.create(authorizedRedirectUri);
-                    if (authorizedURI.getHost().equalsIgnoreCase(clientRedirectUri.getHost()) && authorizedURI.getPort() == clientRedirectUri.getPort() && authorizedURI.getPath().equals(clientRedirectUri.getPath())) {
-                        return true;
-                    }
-                    return false;
-                });
-    }
-
     private User registerUser(final OAuth2UserRequest oAuth2UserRequest, final OAuth2UserInfo oAuth2UserInfo, final UserType userType) {
         User user;
         switch (userType) {
@@ -142,6 +129,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             default:
                 throw new UnsupportedUserTypeException();
         }
+        registeredEmailFilter.add(user.getEmail());
         return user;
     }
 
@@ -20,8 +20,8 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
 
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
-        return CookieUtil.getCookie(OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
-            .map(cookie -> CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class))
+        return CookieUtil.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
+            .map(cookie -> OAuth2AuthorizationRequestCodec.decode(cookie.getValue()))
             .orElse(null);
     }
 
@@ -32,15 +32,15 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
             return;
         }
 
-        CookieUtil.addCookie(OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, CookieUtil.serialize(authorizationRequest), cookieExpireSeconds);
+        CookieUtil.addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, OAuth2AuthorizationRequestCodec.encode(authorizationRequest), cookieExpireSeconds);
 
         final String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
         if (StringUtils.isNotBlank(redirectUriAfterLogin)) {
-            CookieUtil.addCookie(REDIRECT_URI_PARAM_COOKIE_NAME, redirectUriAfterLogin, cookieExpireSeconds);
+            CookieUtil.addCookie(response, REDIRECT_URI_PARAM_COOKIE_NAME, redirectUriAfterLogin, cookieExpireSeconds);
         }
         final String userLanguage = request.getParameter(USER_TYPE_COOKIE_NAME);
         if (StringUtils.isNotBlank(userLanguage)) {
-            CookieUtil.addCookie(USER_TYPE_COOKIE_NAME, userLanguage, cookieExpireSeconds);
+            CookieUtil.addCookie(response, USER_TYPE_COOKIE_NAME, userLanguage, cookieExpireSeconds);
         }
     }
 
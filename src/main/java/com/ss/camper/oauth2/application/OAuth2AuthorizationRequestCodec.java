@@ -0,0 +1,121 @@
+package com.ss.camper.oauth2.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OAuth2AuthorizationRequest 쿠키 직렬화
+ * Java 직렬화 대신 짧은 키의 JSON 을 Base64(URL) 로 인코딩
+ * 추가 파라미터/속성 값은 문자열로 저장 (nonce, registration_id, PKCE 값 등 모두 문자열)
+ */
+public final class OAuth2AuthorizationRequestCodec {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String AUTHORIZATION_URI = "au";
+    private static final String GRANT_TYPE = "gt";
+    private static final String CLIENT_ID = "ci";
+    private static final String REDIRECT_URI = "ru";
+    private static final String SCOPES = "sc";
+    private static final String STATE = "st";
+    private static final String ADDITIONAL_PARAMETERS = "ap";
+    private static final String ATTRIBUTES = "at";
+    private static final String AUTHORIZATION_REQUEST_URI = "ar";
+
+    private OAuth2AuthorizationRequestCodec() {
+    }
+
+    public static String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        final ObjectNode node = objectMapper.createObjectNode();
+        node.put(AUTHORIZATION_URI, authorizationRequest.getAuthorizationUri());
+        node.put(GRANT_TYPE, authorizationRequest.getGrantType().getValue());
+        node.put(CLIENT_ID, authorizationRequest.getClientId());
+        node.put(REDIRECT_URI, authorizationRequest.getRedirectUri());
+        authorizationRequest.getScopes().forEach(node.putArray(SCOPES)::add);
+        node.put(STATE, authorizationRequest.getState());
+        putStringMap(node.putObject(ADDITIONAL_PARAMETERS), authorizationRequest.getAdditionalParameters());
+        putStringMap(node.putObject(ATTRIBUTES), authorizationRequest.getAttributes());
+        node.put(AUTHORIZATION_REQUEST_URI, authorizationRequest.getAuthorizationRequestUri());
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(node));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 디코딩 실패(변조, 이전 형식 쿠키 등) 시 null 반환 → 인가 요청 없음으로 처리
+     */
+    public static OAuth2AuthorizationRequest decode(String value) {
+        final JsonNode node;
+        try {
+            node = objectMapper.readTree(Base64.getUrlDecoder().decode(value.getBytes(StandardCharsets.US_ASCII)));
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+        if (node == null || !node.isObject()) return null;
+
+        final String grantType = node.path(GRANT_TYPE).asText();
+        final OAuth2AuthorizationRequest.Builder builder;
+        if (AuthorizationGrantType.AUTHORIZATION_CODE.getValue().equals(grantType)) {
+            builder = OAuth2AuthorizationRequest.authorizationCode();
+        } else if (AuthorizationGrantType.IMPLICIT.getValue().equals(grantType)) {
+            builder = OAuth2AuthorizationRequest.implicit();
+        } else {
+            return null;
+        }
+
+        final Set<String> scopes = new LinkedHashSet<>();
+        node.path(SCOPES).forEach(scope -> scopes.add(scope.asText()));
+
+        try {
+            return builder
+                .authorizationUri(textOrNull(node, AUTHORIZATION_URI))
+                .clientId(textOrNull(node, CLIENT_ID))
+                .redirectUri(textOrNull(node, REDIRECT_URI))
+                .scopes(scopes)
+                .state(textOrNull(node, STATE))
+                .additionalParameters(getStringMap(node.path(ADDITIONAL_PARAMETERS)))
+                .attributes(getStringMap(node.path(ATTRIBUTES)))
+                .authorizationRequestUri(textOrNull(node, AUTHORIZATION_REQUEST_URI))
+                .build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void putStringMap(ObjectNode target, Map<String, Object> source) {
+        source.forEach((key, value) -> {
+            if (value != null) target.put(key, String.valueOf(value));
+        });
+    }
+
+    private static Map<String, Object> getStringMap(JsonNode source) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            map.put(field.getKey(), field.getValue().asText());
+        }
+        return map;
+    }
+
+    private static String textOrNull(JsonNode node, String fieldName) {
+        final JsonNode value = node.get(fieldName);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ss.camper.oauth2.application;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(IP, 이메일 등) 별 요청 수 제한
+ * 키마다 period 동안 capacity 번까지 허용하고 period / capacity 마다 한 번씩 다시 채워지는 토큰 버킷
+ * 버킷 상태는 다음 토큰이 채워지는 시각(GCRA) 하나이므로 잠금 없이 CAS 로 갱신
+ * 키는 최대 maxKeys 개까지 보관하며, 가득 차면 일부(EVICTION_SAMPLES 개)만 확인해 가장 많이 채워진 버킷을 제거
+ * (전체를 확인하지 않아 키를 바꿔 가며 요청해도 비용이 일정하고, 제한 중인 버킷은 되도록 유지)
+ */
+public class RateLimiter {
+
+    private static final int EVICTION_SAMPLES = 16;
+
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(final int capacity, final long period, final TimeUnit unit, final int maxKeys) {
+        this.emissionInterval = unit.toNanos(period) / capacity;
+        this.burstTolerance = emissionInterval * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    public boolean tryAcquire(final String key) {
+        final long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) evict(now);
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            final long theoreticalArrival = bucket.get();
+            final long nextArrival = Math.max(theoreticalArrival, now) + emissionInterval;
+            if (nextArrival - now > burstTolerance) return false;
+            if (bucket.compareAndSet(theoreticalArrival, nextArrival)) return true;
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evict(final long now) {
+        Map.Entry<String, AtomicLong> fullest = null;
+        final Iterator<Map.Entry<String, AtomicLong>> entries = buckets.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLES && entries.hasNext(); i++) {
+            final Map.Entry<String, AtomicLong> entry = entries.next();
+            // 모두 채워진 버킷은 제거해도 제한이 풀리지 않으므로 바로 제거
+            if (entry.getValue().get() - now <= 0) {
+                buckets.remove(entry.getKey(), entry.getValue());
+                return;
+            }
+            if (fullest == null || entry.getValue().get() < fullest.getValue().get()) fullest = entry;
+        }
+        if (fullest != null) buckets.remove(fullest.getKey(), fullest.getValue());
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.ss.camper.oauth2.application;
+
+import com.ss.camper.auth.domain.TokenRevocation;
+import com.ss.camper.auth.domain.TokenRevocationRepository;
+import com.ss.camper.common.util.BloomFilter;
+import com.ss.camper.oauth2.dto.VerifiedToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 무효화 목록 (메모리)
+ * 무효화된 회원/토큰이 없는 대부분의 요청은 Bloom filter 확인만으로 끝나고, 해당할 수 있는 경우에만 Map 을 조회
+ * 기동 시 token_revocation 테이블에서 적재하고, 다른 인스턴스의 무효화를 반영하도록 주기적으로 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    private static final int MIN_EXPECTED_INSERTIONS = 10000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    private final Object lock = new Object();
+    private volatile Revocations revocations = new Revocations(0);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        log.info("Token revocation list loaded : {}", size());
+    }
+
+    // 새로 만든 목록에 현재 목록의 만료되지 않은 항목을 합쳐 교체 (조회 이후 이 인스턴스에서 추가된 무효화 유지)
+    @Scheduled(initialDelayString = "${auth.token.revocation-refresh-interval:60000}", fixedDelayString = "${auth.token.revocation-refresh-interval:60000}")
+    public void refresh() {
+        final long now = System.currentTimeMillis();
+        final List<TokenRevocation> tokenRevocations = tokenRevocationRepository.findByExpiredAfter(new Date(now));
+        synchronized (lock) {
+            final Revocations current = revocations;
+            final Revocations next = new Revocations(tokenRevocations.size() + current.size());
+            for (TokenRevocation tokenRevocation : tokenRevocations) {
+                if (tokenRevocation.getUserId() != null) {
+                    next.revokeUser(tokenRevocation.getUserId(), tokenRevocation.getRevokedBefore().getTime(), tokenRevocation.getExpired().getTime());
+                }
+                if (tokenRevocation.getTokenId() != null) {
+                    next.revokeToken(tokenRevocation.getTokenId(), tokenRevocation.getExpired().getTime());
+                }
+            }
+            current.users.forEach((userId, revocation) -> {
+                if (revocation.expiredAt > now) next.revokeUser(userId, revocation.revokedBefore, revocation.expiredAt);
+            });
+            current.tokens.forEach((tokenId, expiredAt) -> {
+                if (expiredAt > now) next.revokeToken(tokenId, expiredAt);
+            });
+            revocations = next;
+        }
+    }
+
+    public boolean isRevoked(final VerifiedToken verifiedToken) {
+        return revocations.isRevoked(verifiedToken.getUserId(), verifiedToken.getTokenId(), verifiedToken.getIssuedAt());
+    }
+
+    public void revokeUser(final long userId, final long revokedBefore, final long expiredAt) {
+        synchronized (lock) {
+            revocations.revokeUser(userId, revokedBefore, expiredAt);
+        }
+    }
+
+    public void revokeToken(final String tokenId, final long expiredAt) {
+        synchronized (lock) {
+            revocations.revokeToken(tokenId, expiredAt);
+        }
+    }
+
+    public int size() {
+        return revocations.size();
+    }
+
+    private static class Revocations {
+        private final Map<Long, UserRevocation> users = new ConcurrentHashMap<>();
+        private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+        private final BloomFilter bloomFilter;
+
+        private Revocations(final int expectedInsertions) {
+            this.bloomFilter = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, expectedInsertions * 2), FALSE_POSITIVE_PROBABILITY);
+        }
+
+        private boolean isRevoked(final long userId, final String tokenId, final long issuedAt) {
+            if (bloomFilter.mightContain(userKey(userId))) {
+                final UserRevocation revocation = users.get(userId);
+                if (revocation != null && issuedAt < revocation.revokedBefore) return true;
+            }
+            return tokenId != null && bloomFilter.mightContain(tokenKey(tokenId)) && tokens.containsKey(tokenId);
+        }
+
+        // Map 에 먼저 추가한 뒤 Bloom filter 에 추가 (Bloom filter 를 통과한 조회는 항상 Map 에서 찾을 수 있음)
+        private void revokeUser(final long userId, final long revokedBefore, final long expiredAt) {
+            users.merge(userId, new UserRevocation(revokedBefore, expiredAt), (before, after) -> new UserRevocation(
+                Math.max(before.revokedBefore, after.revokedBefore), Math.max(before.expiredAt, after.expiredAt)));
+            bloomFilter.put(userKey(userId));
+        }
+
+        private void revokeToken(final String tokenId, final long expiredAt) {
+            tokens.merge(tokenId, expiredAt, Math::max);
+            bloomFilter.put(tokenKey(tokenId));
+        }
+
+        private int size() {
+            return users.size() + tokens.size();
+        }
+
+        private static String userKey(final long userId) {
+            return "u:" + userId;
+        }
+
+        private static String tokenKey(final String tokenId) {
+            return "t:" + tokenId;
+        }
+    }
+
+    private static class UserRevocation {
+        private final long revokedBefore;
+        private final long expiredAt;
+
+        private UserRevocation(final long revokedBefore, final long expiredAt) {
+            this.revokedBefore = revokedBefore;
+            this.expiredAt = expiredAt;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.ss.camper.oauth2.application;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import com.ss.camper.oauth2.dto.VerifiedToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 토큰 캐시
+ * 서명/만료 검증을 통과한 토큰의 사용자 정보를 토큰 만료 시각까지 보관하여 같은 토큰의 재검증(HMAC)을 생략
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(final AuthProperties authProperties) {
+        this.maxSize = authProperties.getToken().getVerifiedTokenCacheSize();
+    }
+
+    public Optional<VerifiedToken> get(final String token) {
+        final String key = hash(token);
+        final VerifiedToken verifiedToken = verifiedTokens.get(key);
+        if (verifiedToken == null) return Optional.empty();
+        if (verifiedToken.isExpired(System.currentTimeMillis())) {
+            verifiedTokens.remove(key, verifiedToken);
+            return Optional.empty();
+        }
+        return Optional.of(verifiedToken);
+    }
+
+    public void put(final String token, final VerifiedToken verifiedToken) {
+        if (maxSize <= 0) return;
+        final long now = System.currentTimeMillis();
+        if (verifiedToken.isExpired(now)) return;
+        if (verifiedTokens.size() >= maxSize) evict(now);
+        verifiedTokens.put(hash(token), verifiedToken);
+    }
+
+    public void remove(final String token) {
+        verifiedTokens.remove(hash(token));
+    }
+
+    public int size() {
+        return verifiedTokens.size();
+    }
+
+    // 만료된 토큰을 먼저 제거하고, 그래도 가득 차 있으면 임의의 토큰을 제거 (다음 요청에서 다시 검증)
+    private void evict(final long now) {
+        verifiedTokens.values().removeIf(verifiedToken -> verifiedToken.isExpired(now));
+        final Iterator<String> keys = verifiedTokens.keySet().iterator();
+        while (verifiedTokens.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String hash(final String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
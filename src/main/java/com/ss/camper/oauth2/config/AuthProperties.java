@@ -1,25 +1,59 @@
 package com.ss.camper.oauth2.config;
 
+import com.ss.camper.common.util.JWTCodec;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @ConfigurationProperties(prefix = "auth")
 public class AuthProperties {
 
     private final Token token = new Token();
+    private final Password password = new Password();
+    private final RateLimit rateLimit = new RateLimit();
     private final Uris uris = new Uris();
 
     @Getter
     @Setter
     public static class Token {
         private String tokenSecret;
+        private String tokenSecretId = JWTCodec.LEGACY_KEY_ID;
+        // 키 교체 전 키 (kid -> secret), 이전 키로 발급된 토큰의 검증에만 사용
+        private Map<String, String> previousTokenSecrets = new HashMap<>();
         private long authTokenExpirationTime;
         private long findPasswordTokenExpirationTime;
+        private int verifiedTokenCacheSize = 10000;
+        private long authCodeExpirationTime = 60000;
+        // 사용되지 않은 인증 코드 보관 기간 (DB 저장소, 생성 시각 기준)
+        private long authCodeRetentionTime = 86400000;
+        private int authCodePurgeBatchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Password {
+        private int strength = 10;
+        // 비밀번호 암호화/검증 동시 처리 수, 대기 가능 수, 최대 대기 시간(ms) (초과 시 503)
+        // 최대 대기 시간은 대기열이 가득 차도 작업이 끝나도록 (대기 가능 수 / 동시 처리 수 + 1) * 암호화 시간보다 충분히 길게 설정
+        private int hashThreads = Runtime.getRuntime().availableProcessors();
+        private int hashQueueCapacity = 8;
+        private long hashTimeout = 3000;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        // 로그인/회원가입 요청 수 제한 (period 동안 최대 허용 수)
+        private long period = 60000;
+        private int ipCapacity = 20;
+        private int emailCapacity = 5;
+        private int maxKeys = 100000;
     }
 
     @Getter
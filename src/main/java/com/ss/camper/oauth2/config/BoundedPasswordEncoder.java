@@ -0,0 +1,139 @@
+package com.ss.camper.oauth2.config;
+
+import com.ss.camper.common.exception.PasswordHashBusyException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 암호화/검증 전용 스레드 풀
+ * BCrypt 는 요청마다 CPU 를 오래 사용하므로 동시 처리 수와 대기 수를 제한하고,
+ * 대기열이 가득 차거나 대기 시간(timeoutMillis)을 넘기면 PasswordHashBusyException(503) 응답
+ * 대기열은 요청 스레드가 오래 묶이지 않도록 DB 커넥션 풀보다 훨씬 작게 설정
+ * BCrypt 는 인터럽트를 확인하지 않으므로 이미 시작된 작업은 대기 시간을 넘겨도 끝날 때까지 스레드를 점유함 (포기한 작업도 처리 용량에 포함)
+ * 대기 시간은 대기열이 가득 찬 상태에서도 작업이 끝날 수 있도록 (대기열 / 스레드 수 + 1) * 암호화 시간보다 충분히 길게 설정
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder abandonedCount = new LongAdder();
+
+    public BoundedPasswordEncoder(final PasswordEncoder delegate, final int threads, final int queueCapacity, final long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    // 대기 시간을 넘겨 응답을 포기한 작업 수 (시작 전 작업은 취소, 시작된 작업은 끝날 때까지 실행)
+    public long getAbandonedCount() {
+        return abandonedCount.sum();
+    }
+
+    public double getAverageHashMillis() {
+        final long count = hashCount.sum();
+        return count == 0 ? 0 : hashNanos.sum() / (double) count / 1_000_000;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                final long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - start);
+                    hashCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashBusyException();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기 시간 직후 끝난 작업은 결과 사용, 끝나지 않은 작업은 포기 (시작 전이면 취소)
+            if (!future.isDone()) {
+                future.cancel(false);
+                abandonedCount.increment();
+                throw new PasswordHashBusyException();
+            }
+            return getDone(future);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static <T> T getDone(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return new IllegalStateException(cause);
+    }
+
+}
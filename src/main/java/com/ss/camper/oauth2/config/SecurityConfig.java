@@ -3,6 +3,8 @@ package com.ss.camper.oauth2.config;
 import com.ss.camper.oauth2.application.CustomOAuth2UserService;
 import com.ss.camper.oauth2.application.CustomUserDetailsService;
 import com.ss.camper.oauth2.application.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.ss.camper.oauth2.application.RateLimiter;
+import com.ss.camper.oauth2.filter.RateLimitFilter;
 import com.ss.camper.oauth2.filter.TokenAuthenticationFilter;
 import com.ss.camper.oauth2.handler.CustomAuthenticationEntryPoint;
 import com.ss.camper.oauth2.handler.OAuth2AuthenticationFailureHandler;
@@ -24,6 +26,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.ss.camper.common.config.WebMvcConfig.STATIC_PATH;
 
 
@@ -48,6 +52,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         "/user/business"
     };
 
+    private final AuthProperties authProperties;
     private final CustomUserDetailsService customUserDetailsService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
@@ -56,7 +61,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        final AuthProperties.Password password = authProperties.getPassword();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(password.getStrength()), password.getHashThreads(),
+                password.getHashQueueCapacity(), password.getHashTimeout());
     }
 
     @Bean
@@ -64,6 +71,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return new TokenAuthenticationFilter();
     }
 
+    // 서블릿 필터로 중복 등록되지 않도록 Bean 이 아닌 Security 필터로만 등록
+    private RateLimitFilter rateLimitFilter() {
+        final AuthProperties.RateLimit rateLimit = authProperties.getRateLimit();
+        return new RateLimitFilter(
+            new RateLimiter(rateLimit.getIpCapacity(), rateLimit.getPeriod(), TimeUnit.MILLISECONDS, rateLimit.getMaxKeys()),
+            new RateLimiter(rateLimit.getEmailCapacity(), rateLimit.getPeriod(), TimeUnit.MILLISECONDS, rateLimit.getMaxKeys())
+        );
+    }
+
     @Bean
     public HttpCookieOAuth2AuthorizationRequestRepository cookieOAuth2AuthorizationRequestRepository() {
         return new HttpCookieOAuth2AuthorizationRequestRepository();
@@ -119,6 +135,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .successHandler(oAuth2AuthenticationSuccessHandler) // 인증 성공 시 Handler
                 .failureHandler(oAuth2AuthenticationFailureHandler); // 인증 실패 시 Handler
 
+        http.addFilterBefore(rateLimitFilter(), UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(tokenAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
     }
 
@@ -0,0 +1,23 @@
+package com.ss.camper.oauth2.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final UserPrincipal userPrincipal;
+    private final String tokenId;
+    private final long issuedAt;
+    private final long expiredAt;
+
+    public long getUserId() {
+        return Long.parseLong(userPrincipal.getName());
+    }
+
+    public boolean isExpired(final long now) {
+        return now >= expiredAt;
+    }
+
+}
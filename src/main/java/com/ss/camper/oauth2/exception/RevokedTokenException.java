@@ -0,0 +1,9 @@
+package com.ss.camper.oauth2.exception;
+
+import com.ss.camper.common.payload.ApiResponseType;
+
+public class RevokedTokenException extends CustomAuthenticationException {
+    public RevokedTokenException() {
+        super(ApiResponseType.REVOKED_TOKEN);
+    }
+}
@@ -0,0 +1,154 @@
+package com.ss.camper.oauth2.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ss.camper.common.payload.ApiResponseType;
+import com.ss.camper.common.payload.DefaultApiResponse;
+import com.ss.camper.oauth2.application.RateLimiter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 로그인/회원가입 요청 수 제한
+ * IP 별, 요청 본문의 이메일 별로 제한하여 무차별 대입 요청이 BCrypt/DB 부하로 이어지지 않도록 함
+ * 프록시 뒤의 클라이언트 IP 는 server.forward-headers-strategy 설정으로 request.getRemoteAddr() 에 반영됨
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final Set<String> RATE_LIMIT_PATHS = new HashSet<>(Arrays.asList(
+        "/auth/authorization",
+        "/user/client",
+        "/user/business"
+    ));
+
+    // 로그인/회원가입 본문 최대 크기 (Content-Length 와 관계없이 초과 시 이메일 제한을 우회하지 못하도록 요청 거부)
+    private static final int MAX_BODY_SIZE = 8 * 1024;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RateLimiter ipRateLimiter;
+    private final RateLimiter emailRateLimiter;
+
+    public RateLimitFilter(final RateLimiter ipRateLimiter, final RateLimiter emailRateLimiter) {
+        this.ipRateLimiter = ipRateLimiter;
+        this.emailRateLimiter = emailRateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+            || !RATE_LIMIT_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
+        if (!ipRateLimiter.tryAcquire(request.getRemoteAddr())) {
+            DefaultApiResponse.response(response, ApiResponseType.TOO_MANY_REQUESTS);
+            return;
+        }
+
+        // chunked 요청은 Content-Length 가 없으므로 최대 크기 + 1 바이트까지 읽어 확인
+        final byte[] body = request.getContentLengthLong() > MAX_BODY_SIZE ? null : request.getInputStream().readNBytes(MAX_BODY_SIZE + 1);
+        if (body == null || body.length > MAX_BODY_SIZE) {
+            DefaultApiResponse.response(response, ApiResponseType.REQUEST_NOT_VALID);
+            return;
+        }
+
+        final CachedBodyRequest cachedBodyRequest = new CachedBodyRequest(request, body);
+        final String email = getEmail(cachedBodyRequest.body);
+        if (email != null && !emailRateLimiter.tryAcquire(email)) {
+            DefaultApiResponse.response(response, ApiResponseType.TOO_MANY_REQUESTS);
+            return;
+        }
+        filterChain.doFilter(cachedBodyRequest, response);
+    }
+
+    private String getEmail(final byte[] body) {
+        try {
+            final JsonNode email = OBJECT_MAPPER.readTree(body).path("email");
+            return email.isTextual() && StringUtils.isNotBlank(email.asText()) ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) { // 본문 형식 오류는 Controller 유효성 검증에서 처리
+            return null;
+        }
+    }
+
+    // 본문을 미리 읽어 Controller 에서 다시 읽을 수 있도록 보관
+    // (ContentCachingRequestWrapper 는 읽은 본문을 보관만 하고 다시 읽을 수는 없으므로 사용하지 않음)
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new CachedBodyInputStream(body);
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            final String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+
+    // 메모리의 본문을 읽는 입력 스트림 (항상 읽기 가능하므로 ReadListener 는 등록 즉시 호출)
+    private static class CachedBodyInputStream extends ServletInputStream {
+        private final ByteArrayInputStream inputStream;
+        private ReadListener readListener;
+
+        private CachedBodyInputStream(final byte[] body) {
+            this.inputStream = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            if (readListener == null) throw new NullPointerException("readListener");
+            if (this.readListener != null) throw new IllegalStateException("ReadListener 가 이미 등록되어 있습니다.");
+            this.readListener = readListener;
+            try {
+                if (!isFinished()) readListener.onDataAvailable();
+                if (isFinished()) readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            return inputStream.read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            return inputStream.read(b, off, len);
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.ss.camper.oauth2.filter;
 
 import com.ss.camper.common.util.JWTUtil;
+import com.ss.camper.oauth2.application.TokenRevocationList;
 import com.ss.camper.oauth2.dto.UserPrincipal;
+import com.ss.camper.oauth2.dto.VerifiedToken;
+import com.ss.camper.oauth2.exception.RevokedTokenException;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,14 +26,19 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JWTUtil JWTUtil;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
         String jwt = getJwtFromRequest(request);
         if (StringUtils.isNotBlank(jwt)) {
-            if (JWTUtil.validateToken(jwt)) {
-
-                UserPrincipal userPrincipal = JWTUtil.getPrincipal(jwt);
+            // 토큰 검증과 사용자 정보 추출을 한 번의 파싱으로 처리 (검증 실패 시 예외)
+            VerifiedToken verifiedToken = JWTUtil.getVerifiedToken(jwt);
+            if (verifiedToken != null) {
+                if (tokenRevocationList.isRevoked(verifiedToken)) throw new RevokedTokenException();
 
+                UserPrincipal userPrincipal = verifiedToken.getUserPrincipal();
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -2,6 +2,7 @@ package com.ss.camper.oauth2.handler;
 
 import com.ss.camper.auth.application.AuthCodeService;
 import com.ss.camper.common.util.CookieUtil;
+import com.ss.camper.oauth2.application.AuthorizedRedirectUris;
 import com.ss.camper.oauth2.application.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.ss.camper.oauth2.dto.UserPrincipal;
 import com.ss.camper.oauth2.exception.UnsupportedRedirectUriException;
@@ -27,6 +28,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private final ApplicationEventPublisher eventPublisher;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
     private final AuthCodeService authCodeService;
+    private final AuthorizedRedirectUris authorizedRedirectUris;
 
     @Transactional
     @Override
@@ -43,9 +45,11 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     }
 
     protected String determineTargetUrl(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
-        Cookie redirectUriCookie = CookieUtil.getCookie(REDIRECT_URI_PARAM_COOKIE_NAME)
+        Cookie redirectUriCookie = CookieUtil.getCookie(request, REDIRECT_URI_PARAM_COOKIE_NAME)
                 .orElseThrow(UnsupportedRedirectUriException::new);
         String redirectUri = redirectUriCookie.getValue();
+        if (!authorizedRedirectUris.isAuthorized(redirectUri))
+            throw new UnsupportedRedirectUriException();
 
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         String authCode = authCodeService.issueAuthCode(userPrincipal, redirectUri);
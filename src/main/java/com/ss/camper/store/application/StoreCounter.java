@@ -0,0 +1,82 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매장 수 카운터
+ * 목록 조회 시 COUNT 쿼리 대신 사용하며, 기동 시 DB 기준으로 적재 후 매장 등록/삭제 커밋 시 증감
+ * 다른 인스턴스의 등록/삭제와 누락된 증감은 주기적으로 DB 기준으로 다시 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreCounter {
+
+    private final StoreRepositorySupport storeRepositorySupport;
+
+    private final Map<StoreType, AtomicLong> countByType = initCountByType();
+    private final Map<Long, AtomicLong> countByUserId = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        resync();
+        log.info("Store counter loaded : {}", countByType);
+    }
+
+    // COUNT 조회 중 커밋된 증감은 덮어써질 수 있으나 다음 주기에 다시 맞춤
+    @Scheduled(initialDelayString = "${store.counter.resync-interval:300000}", fixedDelayString = "${store.counter.resync-interval:300000}")
+    public void resync() {
+        final Map<StoreType, Long> storeCountByType = storeRepositorySupport.getStoreCountByType();
+        for (StoreType storeType : StoreType.values()) {
+            countByType.get(storeType).set(storeCountByType.getOrDefault(storeType, 0L));
+        }
+        final Map<Long, Long> storeCountByUserId = storeRepositorySupport.getStoreCountByUserId();
+        storeCountByUserId.forEach((userId, count) -> countByUserId.computeIfAbsent(userId, k -> new AtomicLong()).set(count));
+        for (Long userId : new ArrayList<>(countByUserId.keySet())) {
+            if (!storeCountByUserId.containsKey(userId)) countByUserId.remove(userId);
+        }
+    }
+
+    public void increase(final StoreType storeType, final long userId) {
+        countByType.get(storeType).incrementAndGet();
+        countByUserId.computeIfAbsent(userId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void decrease(final StoreType storeType, final long userId) {
+        countByType.get(storeType).updateAndGet(count -> Math.max(count - 1, 0));
+        final AtomicLong count = countByUserId.get(userId);
+        if (count != null) count.updateAndGet(value -> Math.max(value - 1, 0));
+    }
+
+    public long getCountByType(final StoreType storeType) {
+        return countByType.get(storeType).get();
+    }
+
+    public long getCountByUserId(final long userId) {
+        final AtomicLong count = countByUserId.get(userId);
+        return count == null ? 0 : count.get();
+    }
+
+    private static Map<StoreType, AtomicLong> initCountByType() {
+        final Map<StoreType, AtomicLong> countByType = new EnumMap<>(StoreType.class);
+        for (StoreType storeType : StoreType.values()) {
+            countByType.put(storeType, new AtomicLong());
+        }
+        return Collections.unmodifiableMap(countByType);
+    }
+
+}
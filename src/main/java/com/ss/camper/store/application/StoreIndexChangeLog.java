@@ -0,0 +1,37 @@
+package com.ss.camper.store.application;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 인덱스에 이 인스턴스의 변경을 반영한 순서 기록
+ * 주기적 재적재는 DB 조회 시작 이후 이 인스턴스에서 변경된 매장을 건너뜀
+ * (조회 결과가 그 변경 이전 상태일 수 있어, 그대로 반영하면 방금 등록한 매장이 제거되거나 삭제한 매장이 다시 추가됨)
+ */
+class StoreIndexChangeLog {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> changes = new ConcurrentHashMap<>();
+
+    // 커밋 후 인덱스에 반영할 때 호출
+    void changed(final long storeId) {
+        changes.put(storeId, sequence.incrementAndGet());
+    }
+
+    // 재적재 DB 조회 전에 호출, 반환 값 이후의 변경만 건너뜀
+    long begin() {
+        return sequence.get();
+    }
+
+    boolean isChangedSince(final long storeId, final long snapshot) {
+        final Long changedAt = changes.get(storeId);
+        return changedAt != null && changedAt > snapshot;
+    }
+
+    // 재적재 반영 후 호출, 이후 재적재 조회에 포함되는 변경 기록 제거
+    void end(final long snapshot) {
+        changes.values().removeIf(changedAt -> changedAt <= snapshot);
+    }
+
+}
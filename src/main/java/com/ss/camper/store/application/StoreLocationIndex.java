@@ -0,0 +1,170 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreLocation;
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 위치 메모리 인덱스
+ * 위도/경도를 CELL_DEGREE 크기의 격자로 나누어 보관하고, 반경 검색 시 반경에 걸치는 격자만 조회
+ * 이 인스턴스의 변경은 커밋 후 즉시, 다른 인스턴스의 변경은 주기적으로 DB 에서 다시 적재해 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreLocationIndex {
+
+    private static final double CELL_DEGREE = 0.1;
+    private static final int LAT_CELLS = (int) Math.ceil(180 / CELL_DEGREE);
+    private static final int LNG_CELLS = (int) Math.ceil(360 / CELL_DEGREE);
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final StoreRepositorySupport storeRepositorySupport;
+
+    private final Map<Long, StoreLocation> locations = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, StoreLocation>> cells = new ConcurrentHashMap<>();
+    private final StoreIndexChangeLog changeLog = new StoreIndexChangeLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<StoreLocation> storeLocations = storeRepositorySupport.getStoreLocations();
+        synchronized (this) {
+            for (StoreLocation storeLocation : storeLocations) {
+                putLocation(storeLocation);
+            }
+        }
+        log.info("Store location index loaded : {}", storeLocations.size());
+    }
+
+    // DB 기준으로 다시 적재 (DB 에 없는 매장은 제거, 조회 시작 이후 이 인스턴스에서 변경된 매장은 제외)
+    @Scheduled(initialDelayString = "${store.index.refresh-interval:60000}", fixedDelayString = "${store.index.refresh-interval:60000}")
+    public void refresh() {
+        final long snapshot = changeLog.begin();
+        final List<StoreLocation> storeLocations = storeRepositorySupport.getStoreLocations();
+        final Set<Long> storeIds = new HashSet<>();
+        synchronized (this) {
+            for (StoreLocation storeLocation : storeLocations) {
+                storeIds.add(storeLocation.getStoreId());
+                if (!changeLog.isChangedSince(storeLocation.getStoreId(), snapshot)) putLocation(storeLocation);
+            }
+            for (Long storeId : new ArrayList<>(locations.keySet())) {
+                if (!storeIds.contains(storeId) && !changeLog.isChangedSince(storeId, snapshot)) removeLocation(storeId);
+            }
+            changeLog.end(snapshot);
+        }
+    }
+
+    public synchronized void put(final StoreLocation storeLocation) {
+        changeLog.changed(storeLocation.getStoreId());
+        putLocation(storeLocation);
+    }
+
+    public synchronized void remove(final long storeId) {
+        changeLog.changed(storeId);
+        removeLocation(storeId);
+    }
+
+    private void putLocation(final StoreLocation storeLocation) {
+        removeLocation(storeLocation.getStoreId());
+        if (storeLocation.getLatitude() == null || storeLocation.getLongitude() == null) return;
+        locations.put(storeLocation.getStoreId(), storeLocation);
+        cells.computeIfAbsent(cellKey(storeLocation.getLatitude(), storeLocation.getLongitude()), k -> new ConcurrentHashMap<>())
+            .put(storeLocation.getStoreId(), storeLocation);
+    }
+
+    private void removeLocation(final long storeId) {
+        final StoreLocation storeLocation = locations.remove(storeId);
+        if (storeLocation == null) return;
+        final long cellKey = cellKey(storeLocation.getLatitude(), storeLocation.getLongitude());
+        final Map<Long, StoreLocation> cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.remove(storeId);
+            if (cell.isEmpty()) cells.remove(cellKey);
+        }
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * 반경 내 가까운 매장 순으로 최대 size 건 조회
+     * @return 매장 고유번호 - 거리(km), 거리 오름차순
+     */
+    public LinkedHashMap<Long, Double> search(final double latitude, final double longitude, final double radiusKm, final StoreType type, final int size) {
+        final int baseLat = latIndex(latitude);
+        final int baseLng = lngIndex(longitude);
+        final int latRange = (int) Math.ceil(radiusKm / KM_PER_DEGREE / CELL_DEGREE);
+        final double cos = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        final int lngRange = (int) Math.ceil(radiusKm / (KM_PER_DEGREE * cos) / CELL_DEGREE);
+        // 경도 범위가 한 바퀴 이상이면 모든 열을 한 번씩만 조회 (같은 열 중복 조회 방지)
+        final boolean allLng = (long) lngRange * 2 + 1 >= LNG_CELLS;
+        final int lngFrom = allLng ? 0 : baseLng - lngRange;
+        final int lngTo = allLng ? LNG_CELLS - 1 : baseLng + lngRange;
+
+        // 거리 내림차순 힙으로 가까운 size 건만 유지
+        final PriorityQueue<Map.Entry<Long, Double>> nearest = new PriorityQueue<>(size + 1, (a, b) -> Double.compare(b.getValue(), a.getValue()));
+        for (int latIdx = baseLat - latRange; latIdx <= baseLat + latRange; latIdx++) {
+            if (latIdx < 0 || latIdx >= LAT_CELLS) continue;
+            for (int lngIdx = lngFrom; lngIdx <= lngTo; lngIdx++) {
+                final Map<Long, StoreLocation> cell = cells.get(cellKey(latIdx, Math.floorMod(lngIdx, LNG_CELLS)));
+                if (cell == null) continue;
+                for (StoreLocation storeLocation : cell.values()) {
+                    if (type != null && type != storeLocation.getStoreType()) continue;
+                    final double distance = distanceKm(latitude, longitude, storeLocation.getLatitude(), storeLocation.getLongitude());
+                    if (distance > radiusKm) continue;
+                    if (nearest.size() < size) {
+                        nearest.offer(new AbstractMap.SimpleImmutableEntry<>(storeLocation.getStoreId(), distance));
+                    } else if (nearest.peek() != null && distance < nearest.peek().getValue()) {
+                        nearest.poll();
+                        nearest.offer(new AbstractMap.SimpleImmutableEntry<>(storeLocation.getStoreId(), distance));
+                    }
+                }
+            }
+        }
+
+        final List<Map.Entry<Long, Double>> sorted = new ArrayList<>(nearest);
+        sorted.sort(Map.Entry.comparingByValue());
+        final LinkedHashMap<Long, Double> result = new LinkedHashMap<>();
+        for (Map.Entry<Long, Double> entry : sorted) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    // Haversine 공식
+    static double distanceKm(final double lat1, final double lng1, final double lat2, final double lng2) {
+        final double dLat = Math.toRadians(lat2 - lat1);
+        final double dLng = Math.toRadians(lng2 - lng1);
+        final double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int latIndex(final double latitude) {
+        return Math.max(0, Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREE)));
+    }
+
+    private static int lngIndex(final double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREE), LNG_CELLS);
+    }
+
+    private static long cellKey(final double latitude, final double longitude) {
+        return cellKey(latIndex(latitude), lngIndex(longitude));
+    }
+
+    private static long cellKey(final int latIdx, final int lngIdx) {
+        return (long) latIdx * LNG_CELLS + lngIdx;
+    }
+
+}
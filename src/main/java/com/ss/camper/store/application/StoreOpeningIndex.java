@@ -0,0 +1,187 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreOpeningDaysConverter;
+import com.ss.camper.store.domain.StoreOpeningHours;
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 매장 영업 시간 메모리 인덱스
+ * 매장 별 영업 요일 비트마스크와 영업 시작/종료 시각(분)만 보관하며, 고유번호 내림차순으로 영업 중인 매장을 조회
+ * 요일 별로 그 요일에 영업하는 매장(전날 자정을 넘겨 영업하는 매장 포함)을 나누어 보관하고, 조회 시 해당 요일 매장만 확인
+ * 이 인스턴스의 변경은 커밋 후 즉시, 다른 인스턴스의 변경은 주기적으로 DB 에서 다시 적재해 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreOpeningIndex {
+
+    private static final int LOAD_SIZE = 1000;
+    private static final short ALL_DAY = -1;
+
+    private final StoreRepositorySupport storeRepositorySupport;
+
+    private final Map<Long, OpeningHours> openingHours = new ConcurrentHashMap<>();
+    private final Map<DayOfWeek, ConcurrentSkipListMap<Long, OpeningHours>> days = initDays();
+    private final StoreIndexChangeLog changeLog = new StoreIndexChangeLog();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        putAll(changeLog.begin());
+        log.info("Store opening index loaded : {}", openingHours.size());
+    }
+
+    // DB 기준으로 다시 적재 (DB 에 없는 매장은 제거, 조회 시작 이후 이 인스턴스에서 변경된 매장은 제외)
+    @Scheduled(initialDelayString = "${store.index.refresh-interval:60000}", fixedDelayString = "${store.index.refresh-interval:60000}")
+    public void refresh() {
+        final long snapshot = changeLog.begin();
+        final Set<Long> storeIds = putAll(snapshot);
+        synchronized (this) {
+            for (Long storeId : new ArrayList<>(openingHours.keySet())) {
+                if (!storeIds.contains(storeId) && !changeLog.isChangedSince(storeId, snapshot)) removeOpeningHours(storeId);
+            }
+            changeLog.end(snapshot);
+        }
+    }
+
+    public synchronized void put(final StoreOpeningHours storeOpeningHours) {
+        changeLog.changed(storeOpeningHours.getStoreId());
+        putOpeningHours(storeOpeningHours);
+    }
+
+    public synchronized void remove(final long storeId) {
+        changeLog.changed(storeId);
+        removeOpeningHours(storeId);
+    }
+
+    private void putOpeningHours(final StoreOpeningHours storeOpeningHours) {
+        removeOpeningHours(storeOpeningHours.getStoreId());
+        // 영업 요일이 없는 매장은 영업 중 조회 대상이 아님
+        if (storeOpeningHours.getOpeningDays() == null || storeOpeningHours.getOpeningDays().isEmpty()) return;
+        short openMinute = minuteOfDay(storeOpeningHours.getOpenTime());
+        short closeMinute = minuteOfDay(storeOpeningHours.getCloseTime());
+        // 영업 시간이 없거나 시작/종료 시각이 같으면 영업일 종일 영업
+        if (openMinute == ALL_DAY || closeMinute == ALL_DAY || openMinute == closeMinute) {
+            openMinute = ALL_DAY;
+            closeMinute = ALL_DAY;
+        }
+        final OpeningHours hours = new OpeningHours(
+            storeOpeningHours.getStoreType(),
+            StoreOpeningDaysConverter.toBitmask(storeOpeningHours.getOpeningDays()),
+            openMinute,
+            closeMinute
+        );
+        openingHours.put(storeOpeningHours.getStoreId(), hours);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (hours.isOpenOn(day)) days.get(day).put(storeOpeningHours.getStoreId(), hours);
+        }
+    }
+
+    private void removeOpeningHours(final long storeId) {
+        if (openingHours.remove(storeId) == null) return;
+        for (ConcurrentSkipListMap<Long, OpeningHours> day : days.values()) {
+            day.remove(storeId);
+        }
+    }
+
+    public int size() {
+        return openingHours.size();
+    }
+
+    /**
+     * 지정 일시에 영업 중인 매장 조회
+     * 해당 요일 매장은 대부분 영업 중인 매장이므로 요일 내에서는 전체를 확인
+     * @return 매장 고유번호, 내림차순
+     */
+    public List<Long> search(final LocalDateTime openAt, final StoreType type) {
+        final DayOfWeek day = openAt.getDayOfWeek();
+        final int minute = openAt.getHour() * 60 + openAt.getMinute();
+        final List<Long> result = new ArrayList<>();
+        for (Map.Entry<Long, OpeningHours> entry : days.get(day).descendingMap().entrySet()) {
+            final OpeningHours hours = entry.getValue();
+            if (type != null && hours.storeType != type) continue;
+            if (hours.isOpen(day, minute)) result.add(entry.getKey());
+        }
+        return result;
+    }
+
+    // 전체 매장 적재 후 적재한 매장 고유번호 반환 (snapshot 이후 이 인스턴스에서 변경된 매장은 적재하지 않음)
+    private Set<Long> putAll(final long snapshot) {
+        final Set<Long> storeIds = new HashSet<>();
+        Long afterId = null;
+        List<StoreOpeningHours> stores;
+        do {
+            stores = storeRepositorySupport.getStoreListForOpeningIndex(afterId, LOAD_SIZE);
+            synchronized (this) {
+                for (StoreOpeningHours store : stores) {
+                    if (!changeLog.isChangedSince(store.getStoreId(), snapshot)) putOpeningHours(store);
+                    storeIds.add(store.getStoreId());
+                    afterId = store.getStoreId();
+                }
+            }
+        } while (stores.size() == LOAD_SIZE);
+        return storeIds;
+    }
+
+    private static Map<DayOfWeek, ConcurrentSkipListMap<Long, OpeningHours>> initDays() {
+        final Map<DayOfWeek, ConcurrentSkipListMap<Long, OpeningHours>> days = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            days.put(day, new ConcurrentSkipListMap<>());
+        }
+        return Collections.unmodifiableMap(days);
+    }
+
+    // 영업 시각은 매장 시간대 기준으로 입력(HH:mm, Asia/Seoul)되므로 JVM 기본 시간대가 아닌 매장 시간대로 변환
+    static short minuteOfDay(final Date time) {
+        if (time == null) return ALL_DAY;
+        final LocalTime localTime = Instant.ofEpochMilli(time.getTime()).atZone(StoreService.STORE_ZONE).toLocalTime();
+        return (short) (localTime.getHour() * 60 + localTime.getMinute());
+    }
+
+    private static class OpeningHours {
+
+        private final StoreType storeType;
+        private final byte openingDays;
+        private final short openMinute;
+        private final short closeMinute;
+
+        private OpeningHours(StoreType storeType, byte openingDays, short openMinute, short closeMinute) {
+            this.storeType = storeType;
+            this.openingDays = openingDays;
+            this.openMinute = openMinute;
+            this.closeMinute = closeMinute;
+        }
+
+        private boolean isOpen(final DayOfWeek day, final int minute) {
+            if (openMinute == ALL_DAY) return isOpeningDay(day);
+            if (openMinute < closeMinute) return isOpeningDay(day) && openMinute <= minute && minute < closeMinute;
+            // 자정을 넘겨 영업하는 경우 전날 영업분 포함
+            return (isOpeningDay(day) && minute >= openMinute) || (isOpeningDay(day.minus(1)) && minute < closeMinute);
+        }
+
+        // 해당 요일에 영업 중인 시간이 있는지 (전날 자정을 넘겨 영업하는 시간 포함)
+        private boolean isOpenOn(final DayOfWeek day) {
+            return isOpeningDay(day) || (openMinute > closeMinute && isOpeningDay(day.minus(1)));
+        }
+
+        private boolean isOpeningDay(final DayOfWeek day) {
+            return (openingDays & StoreOpeningDaysConverter.bit(day)) != 0;
+        }
+
+    }
+
+}
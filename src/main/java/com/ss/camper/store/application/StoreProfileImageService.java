@@ -7,7 +7,6 @@ import com.ss.camper.store.domain.StoreProfileImage;
 import com.ss.camper.store.domain.StoreRepository;
 import com.ss.camper.uploadFile.dto.UploadFileDTO;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
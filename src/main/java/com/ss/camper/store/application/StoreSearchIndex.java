@@ -0,0 +1,208 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.application.dto.StoreListDTO;
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 검색 메모리 역색인
+ * 매장 명, 매장 소개, 태그를 2-gram 과 1-gram 으로 분리해 색인하고
+ * 검색어의 모든 n-gram(한 글자 단어는 1-gram, 그 외 2-gram)을 포함하는 매장을 필드 가중치 * IDF 점수 순으로 조회
+ * 이 인스턴스의 변경은 커밋 후 즉시, 다른 인스턴스의 변경은 주기적으로 DB 에서 다시 적재해 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final float STORE_NAME_WEIGHT = 3f;
+    private static final float TAG_WEIGHT = 2f;
+    private static final float INTRODUCTION_WEIGHT = 1f;
+
+    private final StoreRepositorySupport storeRepositorySupport;
+
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final StoreIndexChangeLog changeLog = new StoreIndexChangeLog();
+
+    @AllArgsConstructor
+    private static class Document {
+        private final StoreType storeType;
+        private final Set<String> tokens;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        putAll(changeLog.begin());
+        log.info("Store search index loaded : {}", documents.size());
+    }
+
+    // DB 기준으로 다시 적재 (DB 에 없는 매장은 제거, 조회 시작 이후 이 인스턴스에서 변경된 매장은 제외)
+    @Scheduled(initialDelayString = "${store.index.refresh-interval:60000}", fixedDelayString = "${store.index.refresh-interval:60000}")
+    public void refresh() {
+        final long snapshot = changeLog.begin();
+        final Set<Long> storeIds = putAll(snapshot);
+        synchronized (this) {
+            for (Long storeId : new ArrayList<>(documents.keySet())) {
+                if (!storeIds.contains(storeId) && !changeLog.isChangedSince(storeId, snapshot)) removeDocument(storeId);
+            }
+            changeLog.end(snapshot);
+        }
+    }
+
+    public synchronized void put(final long storeId, final StoreType storeType, final String storeName, final String introduction, final Collection<String> tags) {
+        changeLog.changed(storeId);
+        putDocument(storeId, storeType, storeName, introduction, tags);
+    }
+
+    public synchronized void remove(final long storeId) {
+        changeLog.changed(storeId);
+        removeDocument(storeId);
+    }
+
+    private void putDocument(final long storeId, final StoreType storeType, final String storeName, final String introduction, final Collection<String> tags) {
+        removeDocument(storeId);
+        final Map<String, Float> weights = new HashMap<>();
+        addTokens(weights, storeName, STORE_NAME_WEIGHT);
+        addTokens(weights, introduction, INTRODUCTION_WEIGHT);
+        if (tags != null) {
+            for (String tag : tags) {
+                addTokens(weights, tag, TAG_WEIGHT);
+            }
+        }
+        for (Map.Entry<String, Float> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>()).put(storeId, entry.getValue());
+        }
+        documents.put(storeId, new Document(storeType, weights.keySet()));
+    }
+
+    private void removeDocument(final long storeId) {
+        final Document document = documents.remove(storeId);
+        if (document == null) return;
+        for (String token : document.tokens) {
+            final Map<Long, Float> posting = postings.get(token);
+            if (posting == null) continue;
+            posting.remove(storeId);
+            if (posting.isEmpty()) postings.remove(token);
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // 전체 매장 적재 후 적재한 매장 고유번호 반환 (snapshot 이후 이 인스턴스에서 변경된 매장은 적재하지 않음)
+    private Set<Long> putAll(final long snapshot) {
+        final Set<Long> storeIds = new HashSet<>();
+        Long after = null;
+        List<StoreListDTO> storeList;
+        do {
+            storeList = storeRepositorySupport.getStoreListForIndex(after, LOAD_BATCH_SIZE);
+            synchronized (this) {
+                for (StoreListDTO store : storeList) {
+                    if (!changeLog.isChangedSince(store.getId(), snapshot)) {
+                        putDocument(store.getId(), store.getStoreType(), store.getStoreName(), store.getIntroduction(), store.getTags());
+                    }
+                    storeIds.add(store.getId());
+                    after = store.getId();
+                }
+            }
+        } while (storeList.size() == LOAD_BATCH_SIZE);
+        return storeIds;
+    }
+
+    /**
+     * @return 점수 내림차순 매장 고유번호 목록
+     */
+    public List<Long> search(final String query, final StoreType type) {
+        final Set<String> queryTokens = new HashSet<>(tokenize(query));
+        if (queryTokens.isEmpty()) return new ArrayList<>();
+
+        // 문서 수가 가장 적은 n-gram 부터 교집합
+        final List<Map<Long, Float>> queryPostings = new ArrayList<>();
+        for (String token : queryTokens) {
+            final Map<Long, Float> posting = postings.get(token);
+            if (posting == null) return new ArrayList<>();
+            queryPostings.add(posting);
+        }
+        queryPostings.sort(Comparator.comparingInt(Map::size));
+
+        final int totalDocuments = Math.max(documents.size(), 1);
+        final Map<Long, Double> scores = new HashMap<>();
+        for (Map.Entry<Long, Float> entry : queryPostings.get(0).entrySet()) {
+            final Document document = documents.get(entry.getKey());
+            if (document == null || (type != null && document.storeType != type)) continue;
+            double score = 0;
+            boolean matched = true;
+            for (Map<Long, Float> posting : queryPostings) {
+                final Float weight = posting.get(entry.getKey());
+                if (weight == null) {
+                    matched = false;
+                    break;
+                }
+                score += weight * Math.log(1 + (double) totalDocuments / posting.size());
+            }
+            if (matched) scores.put(entry.getKey(), score);
+        }
+
+        final List<Long> result = new ArrayList<>(scores.keySet());
+        result.sort((a, b) -> {
+            final int compare = Double.compare(scores.get(b), scores.get(a));
+            return compare != 0 ? compare : Long.compare(b, a);
+        });
+        return result;
+    }
+
+    // 검색어 n-gram
+    static List<String> tokenize(final String text) {
+        return tokenize(text, false);
+    }
+
+    // 색인 n-gram (한 글자 검색어도 조회되도록 모든 글자의 1-gram 포함)
+    static List<String> indexTokenize(final String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(final String text, final boolean withUnigrams) {
+        final List<String> tokens = new ArrayList<>();
+        if (StringUtils.isBlank(text)) return tokens;
+        final String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            final int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i < codePoints.length - 1; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+            if (withUnigrams) {
+                for (int i = 0; i < codePoints.length; i++) {
+                    tokens.add(new String(codePoints, i, 1));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTokens(final Map<String, Float> weights, final String text, final float fieldWeight) {
+        for (String token : indexTokenize(text)) {
+            weights.merge(token, fieldWeight, Float::sum);
+        }
+    }
+
+}
@@ -1,30 +1,48 @@
 package com.ss.camper.store.application;
 
+import com.ss.camper.common.payload.CursorDTO;
+import com.ss.camper.common.payload.CursorPagingRequest;
 import com.ss.camper.common.payload.PageDTO;
 import com.ss.camper.common.payload.PagingRequest;
+import com.ss.camper.common.util.TransactionUtil;
+import com.ss.camper.store.application.dto.NearbyStoreDTO;
 import com.ss.camper.store.application.dto.StoreDTO;
 import com.ss.camper.store.application.dto.StoreListDTO;
 import com.ss.camper.store.application.dto.StoreTagDTO;
+import com.ss.camper.store.application.exception.AlreadyUsedStoreTagException;
 import com.ss.camper.store.application.exception.NotFoundStoreException;
 import com.ss.camper.store.domain.*;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.LinkedHashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class StoreService {
 
-    private final ModelMapper modelMapper;
+    private final static double MAX_NEARBY_RADIUS_KM = 50;
+    private final static int DEFAULT_NEARBY_SIZE = 10;
+    private final static int MAX_NEARBY_SIZE = 50;
+    final static ZoneId STORE_ZONE = ZoneId.of("Asia/Seoul");
+    private final static int MAX_REGISTER_TAG_ATTEMPTS = 3;
+
     private final StoreRepository storeRepository;
     private final StoreTagRepository storeTagRepository;
-    private final StoreRepositorySupport storeRepositorySupport;
+    private final StoreListViewRepository storeListViewRepository;
+    private final StoreListViewRepositorySupport storeListViewRepositorySupport;
+    private final StoreTagRegistrar storeTagRegistrar;
+    private final StoreTagDictionary storeTagDictionary;
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreOpeningIndex storeOpeningIndex;
+    private final StoreCounter storeCounter;
+    private final StoreVersionTable storeVersionTable;
 
     @Transactional
     public StoreDTO registerStore(final long userId, final StoreDTO storeDTO) {
@@ -42,8 +60,13 @@ public class StoreService {
             .openTime(storeDTO.getOpenTime())
             .closeTime(storeDTO.getCloseTime())
             .build());
-        updateTags(store, new LinkedHashSet<>(storeDTO.getTags()));
-        return modelMapper.map(store, StoreDTO.class);
+        final Set<StoreTagDTO> tags = updateTags(store, new LinkedHashSet<>(storeDTO.getTags()));
+        final Set<String> titles = titlesOf(tags);
+        storeListViewRepository.save(StoreListView.of(store, titles));
+        updateIndexes(store, titles);
+        final StoreType storeType = store.getStoreType();
+        TransactionUtil.afterCommit(() -> storeCounter.increase(storeType, userId));
+        return StoreDTO.of(store, tags);
     }
 
     @Transactional
@@ -61,50 +84,205 @@ public class StoreService {
             storeDTO.getOpenTime(),
             storeDTO.getCloseTime()
         );
-        updateTags(store, new LinkedHashSet<>(storeDTO.getTags()));
-        return modelMapper.map(store, StoreDTO.class);
+        final Set<StoreTagDTO> tags = updateTags(store, new LinkedHashSet<>(storeDTO.getTags()));
+        final Set<String> titles = titlesOf(tags);
+        storeListViewRepository.save(StoreListView.of(store, titles));
+        updateIndexes(store, titles);
+        return StoreDTO.of(store, tags);
     }
 
     @Transactional
     public void deleteStore(long userId, long storeId) {
         final Store store = storeRepository.findByUserIdAndId(userId, storeId).orElseThrow(NotFoundStoreException::new);
         store.delete();
+        storeListViewRepository.deleteByStoreId(storeId);
+        final StoreType storeType = store.getStoreType();
+        storeVersionTable.increaseTypeVersion(storeType);
+        TransactionUtil.afterCommit(() -> {
+            storeCounter.decrease(storeType, userId);
+            storeLocationIndex.remove(storeId);
+            storeSearchIndex.remove(storeId);
+            storeOpeningIndex.remove(storeId);
+        });
     }
 
     @Transactional(readOnly = true)
     public StoreDTO getStoreInfo(final long id) {
         final Store store = storeRepository.findByIdAndDeletedIsNull(id).orElse(null);
-        return store == null ? null : modelMapper.map(store, StoreDTO.class);
+        if (store == null) return null;
+        return StoreDTO.of(store);
+    }
+
+    // 매장 정보 ETag (매장 버전), 없는 매장은 empty
+    @Transactional(readOnly = true)
+    public Optional<String> getStoreETag(final long storeId) {
+        return storeVersionTable.getStoreETag(storeId);
     }
 
+    // 매장 유형 별 목록 ETag (매장 유형 별 변경 횟수 + 조회 조건)
     @Transactional(readOnly = true)
-    public PageDTO<StoreListDTO> getStoreListByUserId(final long userId, final int size, final int page) {
+    public String getStoreListETag(final StoreType type, final int size, final int page, final boolean withTotal) {
         final PagingRequest pagingRequest = new PagingRequest(size, page);
-        final Page<StoreListDTO> storeList = storeRepositorySupport.getStoreListByUserId(userId, pagingRequest);
-        return modelMapper.map(storeList, PageDTO.class);
+        return storeVersionTable.getStoreListETag(type, pagingRequest.getSize(), pagingRequest.getPage(), withTotal);
     }
 
+    /**
+     * 페이지 기반 목록 조회
+     * 전체 건수는 매장 수 카운터 값을 사용하며, withTotal 이 false 면 전체 건수/페이지를 생략
+     */
     @Transactional(readOnly = true)
-    public PageDTO<StoreListDTO> getStoreListByType(StoreType type, int size, int page) {
+    public PageDTO<StoreListDTO> getStoreListByUserId(final long userId, final int size, final int page, final boolean withTotal) {
         final PagingRequest pagingRequest = new PagingRequest(size, page);
-        final Page<StoreListDTO> storeList = storeRepositorySupport.getStoreListByType(type, pagingRequest);
-        return modelMapper.map(storeList, PageDTO.class);
+        final List<StoreListDTO> storeList = storeListViewRepositorySupport.getStoreListByUserId(userId, pagingRequest);
+        if (!withTotal) return PageDTO.withoutTotal(storeList, pagingRequest);
+        return PageDTO.of(storeList, storeCounter.getCountByUserId(userId), pagingRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public PageDTO<StoreListDTO> getStoreListByType(final StoreType type, final int size, final int page, final boolean withTotal) {
+        final PagingRequest pagingRequest = new PagingRequest(size, page);
+        final List<StoreListDTO> storeList = storeListViewRepositorySupport.getStoreListByType(type, pagingRequest);
+        if (!withTotal) return PageDTO.withoutTotal(storeList, pagingRequest);
+        return PageDTO.of(storeList, storeCounter.getCountByType(type), pagingRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorDTO<StoreListDTO> getStoreCursorListByUserId(final long userId, final int size, final String after) {
+        final CursorPagingRequest cursorPagingRequest = new CursorPagingRequest(size, after);
+        final List<StoreListDTO> storeList = storeListViewRepositorySupport.getStoreCursorListByUserId(userId, cursorPagingRequest);
+        return CursorDTO.of(storeList, cursorPagingRequest.getSize(), StoreListDTO::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorDTO<StoreListDTO> getStoreCursorListByType(final StoreType type, final int size, final String after) {
+        final CursorPagingRequest cursorPagingRequest = new CursorPagingRequest(size, after);
+        final List<StoreListDTO> storeList = storeListViewRepositorySupport.getStoreCursorListByType(type, cursorPagingRequest);
+        return CursorDTO.of(storeList, cursorPagingRequest.getSize(), StoreListDTO::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearbyStoreDTO> getNearbyStoreList(final double latitude, final double longitude, final double radiusKm, final StoreType type, final int size) {
+        final int searchSize = size <= 0 ? DEFAULT_NEARBY_SIZE : Math.min(size, MAX_NEARBY_SIZE);
+        final Map<Long, Double> nearby = storeLocationIndex.search(latitude, longitude, Math.min(radiusKm, MAX_NEARBY_RADIUS_KM), type, searchSize);
+        if (nearby.isEmpty()) return new ArrayList<>();
+
+        final Map<Long, StoreListDTO> storeList = storeListViewRepositorySupport.getStoreListByIds(nearby.keySet())
+            .stream().collect(Collectors.toMap(StoreListDTO::getId, Function.identity()));
+        final List<NearbyStoreDTO> result = new ArrayList<>();
+        for (Map.Entry<Long, Double> entry : nearby.entrySet()) {
+            final StoreListDTO store = storeList.get(entry.getKey());
+            if (store != null) result.add(new NearbyStoreDTO(entry.getValue(), store));
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public PageDTO<StoreListDTO> searchStoreList(final String query, final StoreType type, final int size, final int page) {
+        return getStoreListPage(storeSearchIndex.search(query, type), new PagingRequest(size, page));
     }
 
-    private void updateTags(final Store store, final Set<StoreTagDTO> tagsDTO) {
+    @Transactional(readOnly = true)
+    public PageDTO<StoreListDTO> getOpenStoreList(final LocalDateTime openAt, final StoreType type, final int size, final int page) {
+        final LocalDateTime searchAt = openAt == null ? LocalDateTime.now(STORE_ZONE) : openAt;
+        return getStoreListPage(storeOpeningIndex.search(searchAt, type), new PagingRequest(size, page));
+    }
+
+    // 메모리 인덱스에서 조회한 매장 고유번호 목록 중 요청 페이지만 조회
+    private PageDTO<StoreListDTO> getStoreListPage(final List<Long> storeIds, final PagingRequest pagingRequest) {
+        final int fromIndex = (int) Math.min(pagingRequest.getPageable().getOffset(), storeIds.size());
+        final List<Long> pageStoreIds = storeIds.subList(fromIndex, Math.min(fromIndex + pagingRequest.getSize(), storeIds.size()));
+        final List<StoreListDTO> content = storeListViewRepositorySupport.getStoreListByIds(pageStoreIds);
+        return PageDTO.of(content, storeIds.size(), pagingRequest);
+    }
+
+    // 커밋된 변경 사항만 매장 유형 별 변경 횟수, 메모리 인덱스에 반영
+    private void updateIndexes(final Store store, final Set<String> tags) {
+        final long storeId = store.getId();
+        final StoreType storeType = store.getStoreType();
+        final String storeName = store.getStoreName();
+        final String introduction = store.getIntroduction();
+        final StoreLocation storeLocation = StoreLocation.of(store);
+        final StoreOpeningHours storeOpeningHours = StoreOpeningHours.of(store);
+        storeVersionTable.increaseTypeVersion(storeType);
+        TransactionUtil.afterCommit(() -> {
+            storeLocationIndex.put(storeLocation);
+            storeSearchIndex.put(storeId, storeType, storeName, introduction, tags);
+            storeOpeningIndex.put(storeOpeningHours);
+        });
+    }
+
+    /**
+     * 매장 태그 갱신
+     * 매장에는 태그 참조(프록시)만 연결하고, 반환하는 태그 정보는 태그 사전/등록 결과의 고유번호와 태그 명으로 생성 (태그 조회 없음)
+     * 대소문자/후행 공백만 다른 태그 명은 이미 등록된 태그로 연결하고 등록된 태그 명을 사용
+     * @return 태그 정보 목록, 태그가 없으면 null
+     */
+    private Set<StoreTagDTO> updateTags(final Store store, final Set<StoreTagDTO> tagsDTO) {
         LinkedHashSet<StoreTag> tags = null;
+        LinkedHashSet<StoreTagDTO> result = null;
         if (tagsDTO != null && !tagsDTO.isEmpty()) {
-            tags = new LinkedHashSet<>();
-            for (StoreTagDTO tagDTO : tagsDTO) {
-                final Optional<StoreTag> storeTag = storeTagRepository.findByStoreTypeAndTitle(store.getStoreType(), tagDTO.getTitle());
-                if (storeTag.isPresent()) {
-                    tags.add(storeTag.get());
+            final StoreType storeType = store.getStoreType();
+            final Set<String> titles = new LinkedHashSet<>();
+            tagsDTO.stream().map(StoreTagDTO::getTitle).forEach(titles::add);
+
+            // 태그 사전에 있는 태그는 조회 없이 고유번호만 사용 (정규화한 태그 명 -> 태그 고유번호, 태그 명)
+            final Map<String, StoreTagDTO> storeTags = new HashMap<>();
+            final List<String> newTitles = new ArrayList<>();
+            for (String title : titles) {
+                final Optional<Long> storeTagId = storeTagDictionary.findId(storeType, title);
+                if (storeTagId.isPresent()) {
+                    final String storeTagTitle = storeTagDictionary.findTitle(storeTagId.get()).orElse(title);
+                    storeTags.put(StoreTagDictionary.key(title), StoreTagDTO.builder().id(storeTagId.get()).title(storeTagTitle).build());
                 } else {
-                    tags.add(storeTagRepository.save(StoreTag.builder().storeType(store.getStoreType()).title(tagDTO.getTitle()).build()));
+                    newTitles.add(title);
                 }
             }
+
+            // 사전에 없는 태그만 일괄 등록 (등록은 별도 트랜잭션으로 커밋되므로 바로 사전에 반영)
+            if (!newTitles.isEmpty()) {
+                for (StoreTag storeTag : registerTags(storeType, newTitles)) {
+                    storeTagDictionary.put(storeTag);
+                    storeTags.put(StoreTagDictionary.key(storeTag.getTitle()), StoreTagDTO.builder().id(storeTag.getId()).title(storeTag.getTitle()).build());
+                }
+            }
+
+            // 같은 태그로 연결되는 태그 명은 한 번만 연결
+            final Set<Long> storeTagIds = new HashSet<>();
+            tags = new LinkedHashSet<>();
+            result = new LinkedHashSet<>();
+            for (String title : titles) {
+                final StoreTagDTO storeTag = storeTags.get(StoreTagDictionary.key(title));
+                if (!storeTagIds.add(storeTag.getId())) continue;
+                tags.add(storeTagRepository.getOne(storeTag.getId()));
+                result.add(storeTag);
+            }
         }
         store.updateTags(tags);
+        return result;
+    }
+
+    private static Set<String> titlesOf(final Set<StoreTagDTO> tags) {
+        final Set<String> titles = new LinkedHashSet<>();
+        if (tags != null) tags.stream().map(StoreTagDTO::getTitle).forEach(titles::add);
+        return titles;
+    }
+
+    // 태그 등록 후 조회되지 않은 태그는 다시 등록 (조회 결과는 DB 콜레이션과 같은 기준으로 정규화한 태그 명으로 확인)
+    private List<StoreTag> registerTags(final StoreType storeType, final List<String> titles) {
+        final List<StoreTag> registered = new ArrayList<>();
+        List<String> remainTitles = titles;
+        for (int attempt = 0; attempt < MAX_REGISTER_TAG_ATTEMPTS && !remainTitles.isEmpty(); attempt++) {
+            final Set<String> registeredTitles = new HashSet<>();
+            for (StoreTag storeTag : storeTagRegistrar.registerAll(storeType, remainTitles)) {
+                // 다른 매장 유형에서 이미 사용 중인 태그
+                if (storeTag.getStoreType() != storeType) throw new AlreadyUsedStoreTagException();
+                registered.add(storeTag);
+                registeredTitles.add(StoreTagDictionary.key(storeTag.getTitle()));
+            }
+            remainTitles = remainTitles.stream().filter(title -> !registeredTitles.contains(StoreTagDictionary.key(title))).collect(Collectors.toList());
+        }
+        if (!remainTitles.isEmpty()) throw new IllegalStateException("Store tag not registered : " + remainTitles);
+        return registered;
     }
 
 }
@@ -0,0 +1,94 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreTag;
+import com.ss.camper.store.domain.StoreTagRepository;
+import com.ss.camper.store.domain.StoreType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매장 태그 사전 (메모리 캐시)
+ * 매장 유형 + 태그 명 -> 태그 고유번호, 태그 고유번호 -> 태그 명을 보관하며 신규 태그는 커밋 후 반영 (write-through)
+ * 태그는 삭제되지 않으므로 조회 결과가 만료되지 않음
+ * 태그 명 unique 제약은 DB 콜레이션(대소문자/후행 공백 무시) 기준이므로 같은 기준으로 정규화한 태그 명으로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreTagDictionary {
+
+    private final StoreTagRepository storeTagRepository;
+
+    private final Map<StoreType, Map<String, Long>> ids = initIds();
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<StoreTag> storeTags = storeTagRepository.findAll();
+        for (StoreTag storeTag : storeTags) {
+            put(storeTag);
+        }
+        log.info("Store tag dictionary loaded : {}", storeTags.size());
+    }
+
+    public void put(final StoreTag storeTag) {
+        put(storeTag.getId(), storeTag.getStoreType(), storeTag.getTitle());
+    }
+
+    public void put(final long storeTagId, final StoreType storeType, final String title) {
+        // 같은 태그 명은 하나의 문자열 인스턴스를 공유
+        final String internedTitle = title.intern();
+        titles.put(storeTagId, internedTitle);
+        ids.get(storeType).put(key(internedTitle), storeTagId);
+    }
+
+    public Optional<Long> findId(final StoreType storeType, final String title) {
+        final Long storeTagId = ids.get(storeType).get(key(title));
+        if (storeTagId == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        hitCount.increment();
+        return Optional.of(storeTagId);
+    }
+
+    public Optional<String> findTitle(final long storeTagId) {
+        return Optional.ofNullable(titles.get(storeTagId));
+    }
+
+    public int size() {
+        return titles.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    // DB 콜레이션과 같은 기준으로 정규화 (같은 태그로 저장되는 태그 명은 같은 키)
+    static String key(final String title) {
+        return StringUtils.stripEnd(title, " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<StoreType, Map<String, Long>> initIds() {
+        final Map<StoreType, Map<String, Long>> ids = new EnumMap<>(StoreType.class);
+        for (StoreType storeType : StoreType.values()) {
+            ids.put(storeType, new ConcurrentHashMap<>());
+        }
+        return Collections.unmodifiableMap(ids);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreTag;
+import com.ss.camper.store.domain.StoreTagRepository;
+import com.ss.camper.store.domain.StoreTagRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 신규 매장 태그 등록
+ * 호출한 트랜잭션의 스냅샷에서는 동시에 커밋된 태그가 조회되지 않으므로, 새 트랜잭션에서 등록 후 다시 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreTagRegistrar {
+
+    private final StoreTagRepository storeTagRepository;
+    private final StoreTagRepositorySupport storeTagRepositorySupport;
+
+    /**
+     * 등록되지 않은 태그만 등록 (이미 등록된 태그는 무시)
+     * @return 태그 명이 일치하는 태그 목록 (다른 매장 유형의 태그 포함)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<StoreTag> registerAll(final StoreType storeType, final Collection<String> titles) {
+        storeTagRepositorySupport.insertIgnoreAll(storeType, titles);
+        return storeTagRepository.findByTitleIn(titles);
+    }
+
+}
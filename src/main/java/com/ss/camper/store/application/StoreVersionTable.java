@@ -0,0 +1,46 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.common.util.TransactionUtil;
+import com.ss.camper.store.domain.StoreRepository;
+import com.ss.camper.store.domain.StoreType;
+import com.ss.camper.store.domain.StoreTypeVersionRepositorySupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * 매장 버전 조회 (HTTP 조건부 조회용)
+ * 매장 ETag 는 매장의 버전(ver), 매장 유형 별 목록 ETag 는 매장 유형 별 변경 횟수(store_type_version)로 생성
+ * 모두 DB 값이므로 다른 인스턴스의 변경도 바로 반영되며, ETag 가 일치하는 요청은 기본 키 조회 한 번으로 304 응답
+ * 메모리 버전만으로 304 응답하면 다른 인스턴스의 변경 후에도 이전 ETag 로 304 응답하므로, 조건부 조회마다 DB 조회 한 번은 유지
+ * 매장 유형 별 변경 횟수는 커밋 후 별도 트랜잭션에서 증가시켜, 같은 매장 유형의 매장 변경이 행 잠금을 기다리지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreVersionTable {
+
+    private final StoreRepository storeRepository;
+    private final StoreTypeVersionRepositorySupport storeTypeVersionRepositorySupport;
+
+    // 매장 등록/수정/삭제 트랜잭션에서 호출, 커밋된 경우에만 증가 (롤백된 변경은 목록 ETag 를 바꾸지 않음)
+    public void increaseTypeVersion(final StoreType storeType) {
+        TransactionUtil.afterCommit(() -> storeTypeVersionRepositorySupport.increase(storeType));
+    }
+
+    // 매장 정보, 프로필 이미지 등 매장 정보 조회 결과가 바뀌는 변경은 모두 매장 버전을 증가시킴
+    public Optional<String> getStoreETag(final long storeId) {
+        return storeRepository.findVerById(storeId).map(ver -> "\"" + storeId + "-" + ver + "\"");
+    }
+
+    public String getStoreListETag(final StoreType storeType, final Object... params) {
+        final StringJoiner eTag = new StringJoiner("-", "\"", "\"");
+        eTag.add(storeType.name()).add(String.valueOf(storeTypeVersionRepositorySupport.getVersion(storeType)));
+        for (Object param : params) {
+            eTag.add(String.valueOf(param));
+        }
+        return eTag.toString();
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.ss.camper.store.application.dto;
+
+import lombok.*;
+
+@ToString
+@Setter
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyStoreDTO {
+    private double distance;
+    private StoreListDTO store;
+}
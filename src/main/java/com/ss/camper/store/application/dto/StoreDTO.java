@@ -2,6 +2,8 @@ package com.ss.camper.store.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.ss.camper.store.domain.Address;
+import com.ss.camper.store.domain.Store;
+import com.ss.camper.store.domain.StoreTag;
 import com.ss.camper.store.domain.StoreStatus;
 import com.ss.camper.store.domain.StoreType;
 import com.ss.camper.uploadFile.dto.UploadFileDTO;
@@ -9,6 +11,7 @@ import lombok.*;
 
 import java.time.DayOfWeek;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -35,4 +38,37 @@ public class StoreDTO {
     private Date closeTime;
     private Set<StoreTagDTO> tags;
     private List<UploadFileDTO> profileImages;
+
+    public static StoreDTO of(Store store) {
+        return of(store, tagsOf(store.getTags()));
+    }
+
+    // 태그 정보는 전달받은 값 사용 (태그 프록시 초기화 방지)
+    public static StoreDTO of(Store store, Set<StoreTagDTO> tags) {
+        return StoreDTO.builder()
+            .id(store.getId())
+            .storeType(store.getStoreType())
+            .storeStatus(store.getStoreStatus())
+            .storeName(store.getStoreName())
+            .address(store.getAddress())
+            .tel(store.getTel())
+            .homepageUrl(store.getHomepageUrl())
+            .reservationUrl(store.getReservationUrl())
+            .introduction(store.getIntroduction())
+            .openingDays(store.getOpeningDays() == null ? null : new LinkedHashSet<>(store.getOpeningDays()))
+            .openTime(store.getOpenTime())
+            .closeTime(store.getCloseTime())
+            .tags(tags)
+            .profileImages(UploadFileDTO.of(store.getProfileImages()))
+            .build();
+    }
+
+    private static Set<StoreTagDTO> tagsOf(Set<StoreTag> tags) {
+        if (tags == null) return null;
+        final Set<StoreTagDTO> result = new LinkedHashSet<>(tags.size() * 2);
+        for (StoreTag tag : tags) {
+            result.add(StoreTagDTO.of(tag));
+        }
+        return result;
+    }
 }
@@ -4,10 +4,8 @@ import com.ss.camper.store.domain.Address;
 import com.ss.camper.store.domain.StoreStatus;
 import com.ss.camper.store.domain.StoreType;
 import lombok.*;
-import org.apache.commons.lang3.StringUtils;
 
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 @ToString
@@ -26,9 +24,10 @@ public class StoreListDTO {
     private String homepageUrl;
     private String reservationUrl;
     private String introduction;
-    private String tags;
+    // 응답은 태그 명 배열 (태그 명을 결합한 문자열을 보관하던 때에도 getTags() 로 배열 직렬화)
+    private Set<String> tags;
     public Set<String> getTags() {
-        if (StringUtils.isBlank(this.tags)) return new HashSet<>();
-        return new HashSet<>(Arrays.asList(this.tags.split(",")));
+        if (this.tags == null) this.tags = new LinkedHashSet<>();
+        return this.tags;
     }
 }
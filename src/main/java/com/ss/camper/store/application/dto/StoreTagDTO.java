@@ -1,5 +1,6 @@
 package com.ss.camper.store.application.dto;
 
+import com.ss.camper.store.domain.StoreTag;
 import lombok.*;
 
 @ToString
@@ -11,4 +12,11 @@ import lombok.*;
 public class StoreTagDTO {
     private Long id;
     private String title;
+
+    public static StoreTagDTO of(StoreTag storeTag) {
+        return StoreTagDTO.builder()
+            .id(storeTag.getId())
+            .title(storeTag.getTitle())
+            .build();
+    }
 }
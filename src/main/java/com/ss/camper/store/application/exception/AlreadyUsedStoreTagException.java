@@ -0,0 +1,10 @@
+package com.ss.camper.store.application.exception;
+
+import com.ss.camper.common.exception.ConflictException;
+import com.ss.camper.common.payload.ApiResponseType;
+
+public class AlreadyUsedStoreTagException extends ConflictException {
+    public AlreadyUsedStoreTagException() {
+        super(ApiResponseType.ALREADY_USED_STORE_TAG);
+    }
+}
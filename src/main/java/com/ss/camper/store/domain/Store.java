@@ -15,7 +15,10 @@ import java.util.*;
 @Getter
 @Builder
 @Entity
-@Table(name = "store")
+@Table(name = "store", indexes = {
+    @Index(name = "idx_store_type", columnList = "store_type, deleted"),
+    @Index(name = "idx_store_user", columnList = "user_id, deleted")
+})
 @Where(clause = "deleted IS NULL")
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -56,7 +59,7 @@ public class Store {
     private String introduction;
 
     @Convert(converter = StoreOpeningDaysConverter.class)
-    @Column(name = "opening_days")
+    @Column(name = "opening_days", columnDefinition = "TINYINT DEFAULT NULL")
     private Set<DayOfWeek> openingDays;
 
     @Temporal(TemporalType.TIME)
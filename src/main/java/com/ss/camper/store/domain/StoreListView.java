@@ -0,0 +1,97 @@
+package com.ss.camper.store.domain;
+
+import com.ss.camper.store.application.dto.StoreListDTO;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 매장 목록 조회 전용 테이블
+ * 매장 등록/수정/삭제와 같은 트랜잭션에서 갱신되며, 목록 조회는 이 테이블만 조회 (태그 JOIN 없음)
+ */
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@ToString
+@Getter
+@Builder
+@Entity
+@Table(name = "store_list_view", indexes = {
+    @Index(name = "idx_store_list_view_type", columnList = "store_type, store_id"),
+    @Index(name = "idx_store_list_view_user", columnList = "user_id, store_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreListView {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "store_type", length = 30, nullable = false)
+    private StoreType storeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "store_status", length = 30, nullable = false)
+    private StoreStatus storeStatus;
+
+    @Column(name = "store_name", length = 100, nullable = false)
+    private String storeName;
+
+    @Embedded
+    private Address address;
+
+    @Column(name = "tel", length = 20)
+    private String tel;
+
+    @Column(name = "homepage_url", columnDefinition = "TEXT")
+    private String homepageUrl;
+
+    @Column(name = "reservation_url", columnDefinition = "TEXT")
+    private String reservationUrl;
+
+    @Column(name = "introduction", columnDefinition = "TEXT")
+    private String introduction;
+
+    @Convert(converter = StoreListViewTagsConverter.class)
+    @Column(name = "tags", columnDefinition = "TEXT")
+    private Set<String> tags;
+
+    public static StoreListView of(Store store, Set<String> tags) {
+        return StoreListView.builder()
+            .storeId(store.getId())
+            .userId(store.getUserId())
+            .storeType(store.getStoreType())
+            .storeStatus(store.getStoreStatus())
+            .storeName(store.getStoreName())
+            .address(store.getAddress())
+            .tel(store.getTel())
+            .homepageUrl(store.getHomepageUrl())
+            .reservationUrl(store.getReservationUrl())
+            .introduction(store.getIntroduction())
+            .tags(new LinkedHashSet<>(tags))
+            .build();
+    }
+
+    public StoreListDTO toStoreListDTO() {
+        return StoreListDTO.builder()
+            .id(storeId)
+            .storeType(storeType)
+            .storeStatus(storeStatus)
+            .storeName(storeName)
+            .address(address)
+            .tel(tel)
+            .homepageUrl(homepageUrl)
+            .reservationUrl(reservationUrl)
+            .introduction(introduction)
+            .tags(tags == null ? new LinkedHashSet<>() : new LinkedHashSet<>(tags))
+            .build();
+    }
+
+}
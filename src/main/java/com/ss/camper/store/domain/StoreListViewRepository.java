@@ -0,0 +1,13 @@
+package com.ss.camper.store.domain;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface StoreListViewRepository {
+    StoreListView save(StoreListView storeListView);
+    Optional<StoreListView> findById(Long storeId);
+    @Transactional
+    void deleteByStoreId(Long storeId);
+    void deleteAll();
+}
@@ -0,0 +1,107 @@
+package com.ss.camper.store.domain;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ss.camper.common.payload.CursorPagingRequest;
+import com.ss.camper.common.payload.PagingRequest;
+import com.ss.camper.store.application.dto.StoreListDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.ss.camper.store.domain.QStoreListView.storeListView;
+
+@Repository
+public class StoreListViewRepositorySupport extends QuerydslRepositorySupport {
+
+    private final JPAQueryFactory queryFactory;
+
+    public StoreListViewRepositorySupport(JPAQueryFactory queryFactory) {
+        super(StoreListView.class);
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 페이지 기반 목록 조회
+     * 전체 건수는 매장 수 카운터를 사용하므로 COUNT 쿼리는 실행하지 않음
+     */
+    public List<StoreListDTO> getStoreListByUserId(final long userId, final PagingRequest pagingRequest) {
+        Pageable paging = pagingRequest.getPageable();
+
+        return toStoreList(queryFactory
+                .selectFrom(storeListView)
+                .where(storeListView.userId.eq(userId))
+                .orderBy(storeListView.storeId.desc())
+                .offset(paging.getOffset())
+                .limit(paging.getPageSize())
+                .setHint("org.hibernate.cacheable", true)
+                .fetch());
+    }
+
+    public List<StoreListDTO> getStoreListByType(final StoreType type, final PagingRequest pagingRequest) {
+        Pageable paging = pagingRequest.getPageable();
+
+        return toStoreList(queryFactory
+                .selectFrom(storeListView)
+                .where(storeListView.storeType.eq(type))
+                .orderBy(storeListView.storeId.desc())
+                .offset(paging.getOffset())
+                .limit(paging.getPageSize())
+                .setHint("org.hibernate.cacheable", true)
+                .fetch());
+    }
+
+    /**
+     * 커서(store_id desc) 기반 목록 조회
+     * 다음 페이지 존재 여부 판단을 위해 size + 1 건을 조회하며 COUNT 쿼리는 실행하지 않음
+     */
+    public List<StoreListDTO> getStoreCursorListByUserId(final long userId, final CursorPagingRequest cursorPagingRequest) {
+        return toStoreList(queryFactory
+                .selectFrom(storeListView)
+                .where(storeListView.userId.eq(userId), afterCursor(cursorPagingRequest.getAfter()))
+                .orderBy(storeListView.storeId.desc())
+                .limit(cursorPagingRequest.getSize() + 1)
+                .setHint("org.hibernate.cacheable", true)
+                .fetch());
+    }
+
+    public List<StoreListDTO> getStoreCursorListByType(final StoreType type, final CursorPagingRequest cursorPagingRequest) {
+        return toStoreList(queryFactory
+                .selectFrom(storeListView)
+                .where(storeListView.storeType.eq(type), afterCursor(cursorPagingRequest.getAfter()))
+                .orderBy(storeListView.storeId.desc())
+                .limit(cursorPagingRequest.getSize() + 1)
+                .setHint("org.hibernate.cacheable", true)
+                .fetch());
+    }
+
+    // 고유번호 순서대로 매장 목록 조회
+    public List<StoreListDTO> getStoreListByIds(final Collection<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        final Map<Long, StoreListView> storeList = queryFactory
+                .selectFrom(storeListView)
+                .where(storeListView.storeId.in(ids))
+                .fetch()
+                .stream().collect(Collectors.toMap(StoreListView::getStoreId, view -> view));
+
+        final List<StoreListDTO> result = new ArrayList<>(storeList.size());
+        for (Long id : ids) {
+            final StoreListView view = storeList.get(id);
+            if (view != null) result.add(view.toStoreListDTO());
+        }
+        return result;
+    }
+
+    private List<StoreListDTO> toStoreList(final List<StoreListView> storeList) {
+        return storeList.stream().map(StoreListView::toStoreListDTO).collect(Collectors.toList());
+    }
+
+    private BooleanExpression afterCursor(final Long after) {
+        return after == null ? null : storeListView.storeId.lt(after);
+    }
+
+}
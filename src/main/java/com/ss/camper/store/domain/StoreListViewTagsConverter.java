@@ -0,0 +1,30 @@
+package com.ss.camper.store.domain;
+
+import org.apache.commons.lang3.StringUtils;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 매장 목록 뷰 태그 명 목록 <-> 쉼표로 결합한 문자열
+ * 태그 명에는 쉼표가 허용되지 않음 (매장 등록/수정 요청에서 검증)
+ */
+@Converter
+public class StoreListViewTagsConverter implements AttributeConverter<Set<String>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<String> attribute) {
+        if (attribute == null || attribute.isEmpty()) return null;
+        return String.join(",", attribute);
+    }
+
+    @Override
+    public Set<String> convertToEntityAttribute(String dbData) {
+        if (StringUtils.isBlank(dbData)) return new LinkedHashSet<>();
+        return new LinkedHashSet<>(Arrays.asList(dbData.split(",")));
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.ss.camper.store.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+@AllArgsConstructor
+public class StoreLocation {
+
+    private final Long storeId;
+    private final StoreType storeType;
+    private final Float latitude;
+    private final Float longitude;
+
+    public static StoreLocation of(Store store) {
+        final Address address = store.getAddress();
+        if (address == null) return new StoreLocation(store.getId(), store.getStoreType(), null, null);
+        return new StoreLocation(store.getId(), store.getStoreType(), address.getLatitude(), address.getLongitude());
+    }
+
+}
@@ -1,30 +1,48 @@
 package com.ss.camper.store.domain;
 
-import org.apache.commons.lang3.StringUtils;
-
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 import java.time.DayOfWeek;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * 영업 요일을 비트마스크(TINYINT)로 저장
+ * 월요일 1, 화요일 2, 수요일 4 ... 일요일 64
+ */
 @Converter
-public class StoreOpeningDaysConverter implements AttributeConverter<Set<DayOfWeek>, String> {
+public class StoreOpeningDaysConverter implements AttributeConverter<Set<DayOfWeek>, Byte> {
 
     @Override
-    public String convertToDatabaseColumn(Set<DayOfWeek> attribute) {
+    public Byte convertToDatabaseColumn(Set<DayOfWeek> attribute) {
         if (attribute == null || attribute.isEmpty()) return null;
-        Set<String> stringAttribute = attribute.stream().map(String::valueOf).collect(Collectors.toSet());
-        return String.join(",", stringAttribute);
+        return toBitmask(attribute);
     }
 
     @Override
-    public Set<DayOfWeek> convertToEntityAttribute(String dbData) {
-        if (StringUtils.isBlank(dbData)) return null;
-        Set<String> stringAttribute = new HashSet<>(Arrays.asList(dbData.split(",")));
-        return stringAttribute.stream().map(DayOfWeek::valueOf).collect(Collectors.toSet());
+    public Set<DayOfWeek> convertToEntityAttribute(Byte dbData) {
+        if (dbData == null || dbData == 0) return null;
+        return fromBitmask(dbData);
+    }
+
+    public static byte toBitmask(Set<DayOfWeek> days) {
+        int bitmask = 0;
+        for (DayOfWeek day : days) {
+            bitmask |= bit(day);
+        }
+        return (byte) bitmask;
+    }
+
+    public static Set<DayOfWeek> fromBitmask(byte bitmask) {
+        final Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((bitmask & bit(day)) != 0) days.add(day);
+        }
+        return days;
+    }
+
+    public static int bit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
     }
 
 }
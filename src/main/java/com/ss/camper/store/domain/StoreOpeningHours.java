@@ -0,0 +1,26 @@
+package com.ss.camper.store.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.DayOfWeek;
+import java.util.Date;
+import java.util.Set;
+
+@ToString
+@Getter
+@AllArgsConstructor
+public class StoreOpeningHours {
+
+    private final Long storeId;
+    private final StoreType storeType;
+    private final Set<DayOfWeek> openingDays;
+    private final Date openTime;
+    private final Date closeTime;
+
+    public static StoreOpeningHours of(Store store) {
+        return new StoreOpeningHours(store.getId(), store.getStoreType(), store.getOpeningDays(), store.getOpenTime(), store.getCloseTime());
+    }
+
+}
@@ -15,4 +15,8 @@ public interface StoreRepository {
     @Query(value = "select s from Store s where s.id = :id")
     @QueryHints(value = @QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Store> findByIdAndDeletedIsNull(@Param("id") long id);
+
+    // 매장 ETag 용 버전만 조회 (기본 키 조회)
+    @Query(value = "select s.ver from Store s where s.id = :id")
+    Optional<Long> findVerById(@Param("id") long id);
 }
@@ -1,17 +1,15 @@
 package com.ss.camper.store.domain;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.ss.camper.common.payload.PagingRequest;
 import com.ss.camper.store.application.dto.StoreListDTO;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
+import java.util.*;
+
 import static com.ss.camper.store.domain.QStore.store;
 import static com.ss.camper.store.domain.QStoreTag.storeTag;
 
@@ -25,47 +23,105 @@ public class StoreRepositorySupport extends QuerydslRepositorySupport {
         this.queryFactory = queryFactory;
     }
 
-    public Page<StoreListDTO> getStoreListByUserId(final long userId, final PagingRequest pagingRequest) {
-        Pageable paging = pagingRequest.getPageable();
+    public Map<StoreType, Long> getStoreCountByType() {
+        final Map<StoreType, Long> result = new EnumMap<>(StoreType.class);
+        for (Tuple count : queryFactory
+                .select(store.storeType, store.id.count())
+                .from(store)
+                .groupBy(store.storeType)
+                .fetch()) {
+            result.put(count.get(store.storeType), count.get(store.id.count()));
+        }
+        return result;
+    }
 
-        QueryResults<StoreListDTO> result = queryFactory
-                .select(Projections.constructor(StoreListDTO.class,
-                        store.id, store.storeType, store.storeStatus, store.storeName, store.address, store.tel,
-                        store.homepageUrl, store.reservationUrl, store.introduction,
-                        Expressions.stringTemplate("group_concat({0})", storeTag.title)
+    public Map<Long, Long> getStoreCountByUserId() {
+        final Map<Long, Long> result = new HashMap<>();
+        for (Tuple count : queryFactory
+                .select(store.userId, store.id.count())
+                .from(store)
+                .where(store.userId.isNotNull())
+                .groupBy(store.userId)
+                .fetch()) {
+            result.put(count.get(store.userId), count.get(store.id.count()));
+        }
+        return result;
+    }
+
+    /**
+     * 고유번호 순서대로 매장 목록 조회
+     * 매장 정보와 태그를 각각 한 번씩 조회한 후 메모리에서 합침 (store_tag JOIN + GROUP BY 없음)
+     */
+    public List<StoreListDTO> getStoreListByIds(final Collection<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        final Map<Long, StoreListDTO> storeList = new HashMap<>();
+        for (StoreListDTO storeListDTO : selectStoreList().where(store.id.in(ids)).fetch()) {
+            storeList.put(storeListDTO.getId(), storeListDTO);
+        }
+
+        final List<Tuple> tags = queryFactory
+                .select(store.id, storeTag.title)
+                .from(store)
+                .join(store.tags, storeTag)
+                .where(store.id.in(storeList.keySet()))
+                .orderBy(storeTag.id.asc())
+                .fetch();
+        for (Tuple tag : tags) {
+            storeList.get(tag.get(store.id)).getTags().add(tag.get(storeTag.title));
+        }
+
+        final List<StoreListDTO> result = new ArrayList<>(storeList.size());
+        for (Long id : ids) {
+            final StoreListDTO storeListDTO = storeList.get(id);
+            if (storeListDTO != null) result.add(storeListDTO);
+        }
+        return result;
+    }
+
+    public List<StoreListDTO> getStoreListForIndex(final Long afterId, final int limit) {
+        return getStoreListByIds(selectStoreIds()
+                .where(afterId == null ? null : store.id.gt(afterId))
+                .orderBy(store.id.asc())
+                .limit(limit)
+                .fetch());
+    }
+
+    // 영업 시간 인덱스에 필요한 컬럼만 조회 (엔티티를 만들지 않음)
+    public List<StoreOpeningHours> getStoreListForOpeningIndex(final Long afterId, final int limit) {
+        return queryFactory
+                .select(Projections.constructor(StoreOpeningHours.class,
+                        store.id, store.storeType, store.openingDays, store.openTime, store.closeTime
                 ))
                 .from(store)
-                .leftJoin(storeTag).on(store.tags.contains(storeTag))
-                .where(store.userId.eq(userId))
-                .orderBy(store.id.desc())
-                .groupBy(store.id)
-                .offset(paging.getOffset())
-                .limit(paging.getPageSize())
-                .setHint("org.hibernate.cacheable", true)
-                .fetchResults();
-
-        return new PageImpl<>(result.getResults(), paging, result.getTotal());
+                .where(afterId == null ? null : store.id.gt(afterId))
+                .orderBy(store.id.asc())
+                .limit(limit)
+                .fetch();
     }
 
-    public Page<StoreListDTO> getStoreListByType(final StoreType type, final PagingRequest pagingRequest) {
-        Pageable paging = pagingRequest.getPageable();
+    public List<StoreLocation> getStoreLocations() {
+        return queryFactory
+                .select(Projections.constructor(StoreLocation.class,
+                        store.id, store.storeType, store.address.latitude, store.address.longitude
+                ))
+                .from(store)
+                .fetch();
+    }
+
+    private JPAQuery<Long> selectStoreIds() {
+        return queryFactory
+                .select(store.id)
+                .from(store);
+    }
 
-        QueryResults<StoreListDTO> result = queryFactory
-                .select(Projections.constructor(StoreListDTO.class,
+    private JPAQuery<StoreListDTO> selectStoreList() {
+        return queryFactory
+                .select(Projections.fields(StoreListDTO.class,
                         store.id, store.storeType, store.storeStatus, store.storeName, store.address, store.tel,
-                        store.homepageUrl, store.reservationUrl, store.introduction,
-                        Expressions.stringTemplate("group_concat({0})", storeTag.title)
+                        store.homepageUrl, store.reservationUrl, store.introduction
                 ))
-                .from(store)
-                .leftJoin(storeTag).on(store.tags.contains(storeTag))
-                .where(store.storeType.eq(type))
-                .orderBy(store.id.desc())
-                .groupBy(store.id)
-                .offset(paging.getOffset())
-                .limit(paging.getPageSize())
-                .setHint("org.hibernate.cacheable", true)
-                .fetchResults();
-
-        return new PageImpl<>(result.getResults(), paging, result.getTotal());
+                .from(store);
     }
+
 }
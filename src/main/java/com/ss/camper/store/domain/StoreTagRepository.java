@@ -1,9 +1,15 @@
 package com.ss.camper.store.domain;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreTagRepository {
     StoreTag save(StoreTag storeTag);
+    StoreTag getOne(Long id);
+    List<StoreTag> findAll();
     Optional<StoreTag> findByStoreTypeAndTitle(StoreType storeType, String title);
+    List<StoreTag> findByStoreTypeAndTitleIn(StoreType storeType, Collection<String> titles);
+    List<StoreTag> findByTitleIn(Collection<String> titles);
     void deleteAll();
 }
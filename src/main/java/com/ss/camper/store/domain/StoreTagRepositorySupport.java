@@ -0,0 +1,26 @@
+package com.ss.camper.store.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreTagRepositorySupport {
+
+    private static final String INSERT_IGNORE_STORE_TAG = "INSERT IGNORE INTO store_tag (store_type, title) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 태그 일괄 등록 (동시 등록 등으로 unique 제약에 걸리는 태그는 무시)
+    public void insertIgnoreAll(final StoreType storeType, final Collection<String> titles) {
+        if (titles.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_STORE_TAG, titles, titles.size(), (ps, title) -> {
+            ps.setString(1, storeType.name());
+            ps.setString(2, title);
+        });
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.ss.camper.store.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 매장 유형 별 변경 횟수 (매장 유형 별 목록 ETag 용)
+ * 매장 등록/수정/삭제와 같은 트랜잭션에서 증가 (StoreTypeVersionRepositorySupport)
+ */
+@ToString
+@Getter
+@Entity
+@Table(name = "store_type_version")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreTypeVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "store_type", length = 30)
+    private StoreType storeType;
+
+    @Column(name = "ver", nullable = false)
+    private Long ver;
+
+}
@@ -0,0 +1,31 @@
+package com.ss.camper.store.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreTypeVersionRepositorySupport {
+
+    private static final String INCREASE_STORE_TYPE_VERSION = "INSERT INTO store_type_version (store_type, ver) VALUES (?, 1) ON DUPLICATE KEY UPDATE ver = ver + 1";
+    private static final String SELECT_STORE_TYPE_VERSION = "SELECT ver FROM store_type_version WHERE store_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 매장 유형 별 변경 횟수 증가 (행이 없으면 등록), 행 잠금은 이 짧은 트랜잭션에서만 유지
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increase(final StoreType storeType) {
+        jdbcTemplate.update(INCREASE_STORE_TYPE_VERSION, storeType.name());
+    }
+
+    public long getVersion(final StoreType storeType) {
+        final List<Long> versions = jdbcTemplate.queryForList(SELECT_STORE_TYPE_VERSION, Long.class, storeType.name());
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.ss.camper.store.infra;
+
+import com.ss.camper.store.domain.StoreListView;
+import com.ss.camper.store.domain.StoreListViewRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StoreListViewJpaRepository extends JpaRepository<StoreListView, Long>, StoreListViewRepository {
+}
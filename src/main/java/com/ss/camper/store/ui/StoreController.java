@@ -1,11 +1,13 @@
 package com.ss.camper.store.ui;
 
+import com.ss.camper.common.payload.CursorDTO;
 import com.ss.camper.common.payload.DataApiResponse;
 import com.ss.camper.common.payload.DefaultApiResponse;
 import com.ss.camper.common.payload.PageDTO;
 import com.ss.camper.common.util.SecurityUtil;
 import com.ss.camper.store.application.StoreProfileImageService;
 import com.ss.camper.store.application.StoreService;
+import com.ss.camper.store.application.dto.NearbyStoreDTO;
 import com.ss.camper.store.application.dto.StoreDTO;
 import com.ss.camper.store.application.dto.StoreListDTO;
 import com.ss.camper.store.domain.StoreType;
@@ -14,12 +16,20 @@ import com.ss.camper.store.ui.payload.ModifyStorePayload;
 import com.ss.camper.store.ui.payload.MultipartFileCountValid;
 import com.ss.camper.store.ui.payload.RegisterStorePayload;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Validated
 @RestController
@@ -53,7 +63,10 @@ public class StoreController {
     }
 
     @GetMapping(name = "매장 정보 조회", value = "{storeId}")
-    public DataApiResponse<StoreDTO> getStoreInfo(@PathVariable final long storeId) {
+    public DataApiResponse<StoreDTO> getStoreInfo(@PathVariable final long storeId, final WebRequest webRequest) {
+        // 매장 버전만 조회해 ETag 가 일치하면 매장 정보 조회 없이 304 응답
+        final Optional<String> eTag = storeService.getStoreETag(storeId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) return null;
         final StoreDTO storeDTO = storeService.getStoreInfo(storeId);
         return new DataApiResponse<>(storeDTO);
     }
@@ -61,16 +74,65 @@ public class StoreController {
     @GetMapping(name = "회원 별 매장 목록 조회", value = "user/{userId}")
     public DataApiResponse<PageDTO<StoreListDTO>> getStoreListByUserId(@PathVariable final long userId,
                                                                        @RequestParam final int size,
-                                                                       @RequestParam final int page) {
-        final PageDTO<StoreListDTO> storeList = storeService.getStoreListByUserId(userId, size, page);
+                                                                       @RequestParam final int page,
+                                                                       @RequestParam(required = false, defaultValue = "true") final boolean withTotal) {
+        final PageDTO<StoreListDTO> storeList = storeService.getStoreListByUserId(userId, size, page, withTotal);
         return new DataApiResponse<>(storeList);
     }
 
     @GetMapping(name = "매장 유형 별 매장 목록 조회", value = "type/{type}")
     public DataApiResponse<PageDTO<StoreListDTO>> getStoreListByType(@PathVariable final StoreType type,
                                                                      @RequestParam final int size,
-                                                                     @RequestParam final int page) {
-        final PageDTO<StoreListDTO> storeList = storeService.getStoreListByType(type, size, page);
+                                                                     @RequestParam final int page,
+                                                                     @RequestParam(required = false, defaultValue = "true") final boolean withTotal,
+                                                                     final WebRequest webRequest) {
+        final String eTag = storeService.getStoreListETag(type, size, page, withTotal);
+        if (eTag != null && webRequest.checkNotModified(eTag)) return null;
+        final PageDTO<StoreListDTO> storeList = storeService.getStoreListByType(type, size, page, withTotal);
+        return new DataApiResponse<>(storeList);
+    }
+
+    @GetMapping(name = "회원 별 매장 목록 커서 조회", value = "user/{userId}/cursor")
+    public DataApiResponse<CursorDTO<StoreListDTO>> getStoreCursorListByUserId(@PathVariable final long userId,
+                                                                               @RequestParam final int size,
+                                                                               @RequestParam(required = false) final String after) {
+        final CursorDTO<StoreListDTO> storeList = storeService.getStoreCursorListByUserId(userId, size, after);
+        return new DataApiResponse<>(storeList);
+    }
+
+    @GetMapping(name = "매장 유형 별 매장 목록 커서 조회", value = "type/{type}/cursor")
+    public DataApiResponse<CursorDTO<StoreListDTO>> getStoreCursorListByType(@PathVariable final StoreType type,
+                                                                             @RequestParam final int size,
+                                                                             @RequestParam(required = false) final String after) {
+        final CursorDTO<StoreListDTO> storeList = storeService.getStoreCursorListByType(type, size, after);
+        return new DataApiResponse<>(storeList);
+    }
+
+    @GetMapping(name = "주변 매장 목록 조회", value = "nearby")
+    public DataApiResponse<List<NearbyStoreDTO>> getNearbyStoreList(@RequestParam @DecimalMin("-90") @DecimalMax("90") final double lat,
+                                                                   @RequestParam @DecimalMin("-180") @DecimalMax("180") final double lng,
+                                                                   @RequestParam @Positive @DecimalMax("50") final double radiusKm,
+                                                                   @RequestParam(required = false) final StoreType type,
+                                                                   @RequestParam(required = false, defaultValue = "10") final int size) {
+        final List<NearbyStoreDTO> storeList = storeService.getNearbyStoreList(lat, lng, radiusKm, type, size);
+        return new DataApiResponse<>(storeList);
+    }
+
+    @GetMapping(name = "매장 검색", value = "search")
+    public DataApiResponse<PageDTO<StoreListDTO>> searchStoreList(@RequestParam @NotBlank final String q,
+                                                                  @RequestParam(required = false) final StoreType type,
+                                                                  @RequestParam final int size,
+                                                                  @RequestParam final int page) {
+        final PageDTO<StoreListDTO> storeList = storeService.searchStoreList(q, type, size, page);
+        return new DataApiResponse<>(storeList);
+    }
+
+    @GetMapping(name = "영업 중인 매장 목록 조회", value = "open-now")
+    public DataApiResponse<PageDTO<StoreListDTO>> getOpenStoreList(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime openAt,
+                                                                   @RequestParam(required = false) final StoreType type,
+                                                                   @RequestParam final int size,
+                                                                   @RequestParam final int page) {
+        final PageDTO<StoreListDTO> storeList = storeService.getOpenStoreList(openAt, type, size, page);
         return new DataApiResponse<>(storeList);
     }
 
@@ -9,7 +9,9 @@ import lombok.*;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
 import java.sql.Timestamp;
 import java.time.DayOfWeek;
 import java.util.*;
@@ -47,7 +49,8 @@ public class ModifyStorePayload {
         private Date openTime;
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm", timezone = "Asia/Seoul")
         private Date closeTime;
-        private Set<String> tags;
+        // 매장 목록 뷰에 쉼표로 결합해 저장하므로 쉼표 불가, 태그 명 컬럼 길이(100) 초과 불가
+        private Set<@NotBlank @Size(max = 100) @Pattern(regexp = "[^,]*") String> tags;
 
         public StoreDTO convertStoreDTO() {
             Set<StoreTagDTO> tags = new HashSet<>();
@@ -1,7 +1,11 @@
 package com.ss.camper.uploadFile.dto;
 
+import com.ss.camper.uploadFile.domain.UploadFile;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @ToString
 @Builder
 @Getter
@@ -16,4 +20,26 @@ public class UploadFileDTO {
     private String path;
     private long size;
     private String ext;
+
+    public static UploadFileDTO of(UploadFile uploadFile) {
+        if (uploadFile == null) return null;
+        return UploadFileDTO.builder()
+            .id(uploadFile.getId())
+            .originName(uploadFile.getOriginName())
+            .uploadName(uploadFile.getUploadName())
+            .fullPath(uploadFile.getFullPath())
+            .path(uploadFile.getPath())
+            .size(uploadFile.getSize())
+            .ext(uploadFile.getExt())
+            .build();
+    }
+
+    public static List<UploadFileDTO> of(List<? extends UploadFile> uploadFiles) {
+        if (uploadFiles == null) return null;
+        final List<UploadFileDTO> result = new ArrayList<>(uploadFiles.size());
+        for (UploadFile uploadFile : uploadFiles) {
+            result.add(of(uploadFile));
+        }
+        return result;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.ss.camper.user.application;
+
+import com.ss.camper.common.util.BloomFilter;
+import com.ss.camper.user.domain.UserEmail;
+import com.ss.camper.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 Bloom filter (메모리)
+ * 다른 인스턴스의 최근 가입이 아직 반영되지 않았을 수 있으므로 힌트로만 사용 (mightExist 가 false 여도 DB/이메일 unique 제약이 최종 기준)
+ * 회원가입의 이메일 중복 사전 조회만 생략하며, 로그인은 방금 가입한 회원이 가입되지 않은 이메일로 거부되지 않도록 항상 DB 조회
+ * 기동 시 users 테이블을 조회해 적재하고, 이 인스턴스의 가입은 즉시, 다른 인스턴스의 가입은 주기적으로 반영
+ * 적재 전에는 항상 true 를 반환해 DB 조회로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegisteredEmailFilter {
+
+    private static final int MIN_EXPECTED_INSERTIONS = 100000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    // 커밋 순서와 user_id 순서가 다를 수 있어 마지막 id 이전 일부 구간을 다시 조회
+    private static final long REFRESH_OVERLAP = 100;
+
+    private final UserRepository userRepository;
+
+    private final Object lock = new Object();
+    private volatile Emails emails;
+    private volatile long lastUserId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        rebuild();
+        log.info("Registered email filter loaded : {}", size());
+    }
+
+    // 마지막으로 적재한 user_id 이후 가입한 이메일 추가, 예상 건수를 넘으면 다시 생성
+    @Scheduled(initialDelayString = "${auth.email-filter.refresh-interval:10000}", fixedDelayString = "${auth.email-filter.refresh-interval:10000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        final Emails current = emails;
+        if (current == null) return;
+        if (current.isFull()) {
+            rebuild();
+            return;
+        }
+        synchronized (lock) {
+            putAll(current, Math.max(0, lastUserId - REFRESH_OVERLAP));
+        }
+    }
+
+    public boolean mightExist(final String email) {
+        final Emails current = emails;
+        return current == null || current.mightContain(key(email));
+    }
+
+    // 가입 시 즉시 추가 (롤백되더라도 오탐일 뿐이므로 커밋 전 추가)
+    public void add(final String email) {
+        final Emails current = emails;
+        if (current != null) current.put(key(email));
+    }
+
+    public int size() {
+        final Emails current = emails;
+        return current == null ? 0 : current.count.get();
+    }
+
+    private void rebuild() {
+        synchronized (lock) {
+            final Emails current = emails;
+            final int expectedInsertions = current == null ? 0 : current.count.get() * 2;
+            final Emails next = new Emails(Math.max(MIN_EXPECTED_INSERTIONS, expectedInsertions));
+            lastUserId = 0;
+            putAll(next, 0);
+            emails = next;
+        }
+    }
+
+    private void putAll(final Emails target, final long afterUserId) {
+        try (Stream<UserEmail> userEmails = userRepository.streamEmailsByIdGreaterThan(afterUserId)) {
+            userEmails.forEach(userEmail -> {
+                target.put(key(userEmail.getEmail()));
+                lastUserId = Math.max(lastUserId, userEmail.getId());
+            });
+        }
+    }
+
+    // DB 콜레이션이 대소문자/후행 공백을 구분하지 않으므로 같은 기준으로 정규화 (오탐만 늘고 누락은 없음)
+    private static String key(final String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Emails {
+        private final BloomFilter bloomFilter;
+        private final int expectedInsertions;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Emails(final int expectedInsertions) {
+            this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        private void put(final String key) {
+            if (!bloomFilter.mightContain(key)) count.incrementAndGet();
+            bloomFilter.put(key);
+        }
+
+        private boolean mightContain(final String key) {
+            return bloomFilter.mightContain(key);
+        }
+
+        private boolean isFull() {
+            return count.get() > expectedInsertions;
+        }
+    }
+
+}
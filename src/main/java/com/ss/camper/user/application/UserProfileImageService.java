@@ -7,7 +7,6 @@ import com.ss.camper.user.domain.User;
 import com.ss.camper.user.domain.UserProfileImage;
 import com.ss.camper.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
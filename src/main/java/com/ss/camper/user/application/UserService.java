@@ -1,12 +1,13 @@
 package com.ss.camper.user.application;
 
+import com.ss.camper.auth.application.TokenRevocationService;
 import com.ss.camper.user.application.dto.UserInfoDTO;
 import com.ss.camper.user.application.exception.AlreadySignUpEmailException;
 import com.ss.camper.user.application.exception.NotFoundUserException;
 import com.ss.camper.user.application.exception.NotMatchedPasswordException;
 import com.ss.camper.user.domain.*;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,67 +15,86 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.swing.text.html.Option;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final ModelMapper modelMapper;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final ClientUserRepository clientUserRepository;
     private final BusinessUserRepository businessUserRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     private void signUpValidate(final UserInfoDTO userInfoDTO, final String password, final String passwordCheck) {
         // 비밀번호 일치 확인
         if (!password.equals(passwordCheck)) throw new NotMatchedPasswordException();
         // 이메일 중복 확인
+        // Bloom filter 에 없으면 사전 조회를 생략하고, 놓친 중복(다른 인스턴스의 최근 가입)은 이메일 unique 제약으로 확인
         final String email = userInfoDTO.getEmail();
+        if (!registeredEmailFilter.mightExist(email)) return;
         final long userCount = userRepository.countByEmail(email);
         if (userCount > 0) throw new AlreadySignUpEmailException();
     }
 
-    @Transactional
+    // 이메일 unique 제약 위반만 이미 가입된 이메일로 처리 (save 의 트랜잭션에서 INSERT 하므로 여기서 예외 발생)
+    // 제약 이름은 DB 마다 다르므로 이메일이 등록되어 있는지 다시 조회해 확인하고, 그 외 위반(길이 초과, NOT NULL 등)은 그대로 전달
+    private <T extends User> T register(final String email, final Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (userRepository.countByEmail(email) > 0) throw new AlreadySignUpEmailException();
+            throw e;
+        }
+    }
+
+    // 비밀번호 암호화(BCrypt)가 커넥션을 잡고 있지 않도록 트랜잭션 없이 처리 (등록은 save 의 트랜잭션에서 INSERT 한 번)
     public UserInfoDTO signUpClientUser(final UserInfoDTO userInfoDTO, final String password, final String passwordCheck) {
         this.signUpValidate(userInfoDTO, password, passwordCheck);
-        final ClientUser clientUser = clientUserRepository.save(ClientUser.builder()
+        final ClientUser clientUser = this.register(userInfoDTO.getEmail(), () -> clientUserRepository.save(ClientUser.builder()
             .email(userInfoDTO.getEmail())
             .password(passwordEncoder.encode(password))
             .nickname(userInfoDTO.getNickname())
             .phone(userInfoDTO.getPhone())
-            .build());
-        return modelMapper.map(clientUser, UserInfoDTO.class);
+            .build()));
+        registeredEmailFilter.add(clientUser.getEmail());
+        return UserInfoDTO.of(clientUser);
     }
 
-    @Transactional
+    // 비밀번호 암호화(BCrypt)가 커넥션을 잡고 있지 않도록 트랜잭션 없이 처리 (등록은 save 의 트랜잭션에서 INSERT 한 번)
     public UserInfoDTO signUpBusinessUser(final UserInfoDTO userInfoDTO, final String password, final String passwordCheck) {
         this.signUpValidate(userInfoDTO, password, passwordCheck);
-        final BusinessUser businessUser = businessUserRepository.save(BusinessUser.builder()
+        final BusinessUser businessUser = this.register(userInfoDTO.getEmail(), () -> businessUserRepository.save(BusinessUser.builder()
             .email(userInfoDTO.getEmail())
             .password(passwordEncoder.encode(password))
             .nickname(userInfoDTO.getNickname())
             .phone(userInfoDTO.getPhone())
-            .build());
-        return modelMapper.map(businessUser, UserInfoDTO.class);
+            .build()));
+        registeredEmailFilter.add(businessUser.getEmail());
+        return UserInfoDTO.of(businessUser);
     }
 
     @Transactional(readOnly = true)
     public UserInfoDTO getUserInfo(final long userId) {
-        final User user = userRepository.findById(userId).orElseThrow(NotFoundUserException::new);
-        return modelMapper.map(user, UserInfoDTO.class);
+        final User user = userRepository.findProfileById(userId).orElseThrow(NotFoundUserException::new);
+        return UserInfoDTO.of(user);
     }
 
     @Transactional
     public UserInfoDTO updateUserInfo(final long userId, final UserInfoDTO userInfoDTO) {
-        final User user = userRepository.findById(userId).orElseThrow(NotFoundUserException::new);
+        final User user = userRepository.findProfileById(userId).orElseThrow(NotFoundUserException::new);
         user.updateInfo(userInfoDTO.getNickname(), userInfoDTO.getPhone());
-        return modelMapper.map(user, UserInfoDTO.class);
+        return UserInfoDTO.of(user);
     }
 
     @Transactional
     public void withdrawUser(final long userId) {
         final User user = userRepository.findById(userId).orElseThrow(NotFoundUserException::new);
         user.withdraw();
+        // 탈퇴 전 발급된 토큰 무효화
+        tokenRevocationService.revokeUser(userId);
     }
 
 }
@@ -2,6 +2,7 @@ package com.ss.camper.user.application.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ss.camper.user.domain.AgreeTermsHistory;
 import lombok.*;
 
 import java.util.Date;
@@ -16,4 +17,13 @@ public class AgreeTermsHistoryDTO {
     private Boolean agree;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private Date created;
+
+    public static AgreeTermsHistoryDTO of(AgreeTermsHistory agreeTermsHistory) {
+        if (agreeTermsHistory == null) return null;
+        return AgreeTermsHistoryDTO.builder()
+            .id(agreeTermsHistory.getId())
+            .agree(agreeTermsHistory.isAgree())
+            .created(agreeTermsHistory.getCreated())
+            .build();
+    }
 }
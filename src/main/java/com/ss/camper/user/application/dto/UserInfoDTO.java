@@ -3,6 +3,7 @@ package com.ss.camper.user.application.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ss.camper.uploadFile.dto.UploadFileDTO;
+import com.ss.camper.user.domain.User;
 import com.ss.camper.user.domain.UserType;
 import lombok.*;
 
@@ -25,4 +26,19 @@ public class UserInfoDTO {
     private AgreeTermsHistoryDTO privacyPolicyAgreeTerms;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private Date created;
+
+    public static UserInfoDTO of(User user) {
+        return UserInfoDTO.builder()
+            .id(user.getId())
+            .userType(user.getUserType())
+            .email(user.getEmail())
+            .nickname(user.getNickname())
+            .phone(user.getPhone())
+            .withdrawal(user.isWithdrawal())
+            .profileImage(UploadFileDTO.of(user.getProfileImage()))
+            .useAgreeTerms(AgreeTermsHistoryDTO.of(user.getUseAgreeTerms()))
+            .privacyPolicyAgreeTerms(AgreeTermsHistoryDTO.of(user.getPrivacyPolicyAgreeTerms()))
+            .created(user.getCreated())
+            .build();
+    }
 }
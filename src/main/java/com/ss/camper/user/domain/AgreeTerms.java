@@ -0,0 +1,48 @@
+package com.ss.camper.user.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.*;
+
+/**
+ * 회원별 약관 종류별 현재 동의 상태
+ * 이력(terms_agree_history)은 감사용으로 계속 쌓고, 조회는 종류별 최신 이력을 가리키는 이 테이블만 사용
+ */
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Getter
+@SuperBuilder
+@Entity
+@Table(name = "terms_agree", uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "terms_type" }))
+@AllArgsConstructor()
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AgreeTerms {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY, generator = "AUTO_INCREMENT")
+    @Column(name = "terms_agree_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "terms_type", length = 30, nullable = false)
+    private TermsType termsType;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 현재 동의 상태는 항상 최신 이력과 함께 사용하므로 같은 쿼리에서 join 으로 조회
+    @ManyToOne(fetch = FetchType.EAGER, optional = false, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "terms_agree_history_id", nullable = false)
+    private AgreeTermsHistory history;
+
+    public void update(AgreeTermsHistory history) {
+        this.history = history;
+    }
+
+}
@@ -13,8 +13,9 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
@@ -26,8 +27,17 @@ import java.util.Optional;
 @AllArgsConstructor()
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SecondaryTable(name = "social_auth", pkJoinColumns = @PrimaryKeyJoinColumn(name = "user_id", referencedColumnName = "user_id"))
+@NamedEntityGraph(name = User.PROFILE_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("profileImage"),
+        @NamedAttributeNode(value = "currentAgreeTerms", subgraph = "currentAgreeTerms")
+    },
+    subgraphs = @NamedSubgraph(name = "currentAgreeTerms", attributeNodes = @NamedAttributeNode("history")))
 public abstract class User {
 
+    // 회원 정보 응답(UserInfoDTO)에 필요한 연관 엔티티를 한 번에 조회 (social_auth 는 보조 테이블이라 항상 join)
+    public static final String PROFILE_GRAPH = "User.profile";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY, generator = "AUTO_INCREMENT")
     @Column(name = "user_id")
@@ -62,11 +72,11 @@ public abstract class User {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "user", cascade = CascadeType.PERSIST)
     private List<AgreeTermsHistory> agreeTermsHistories;
 
-    @Transient
-    private AgreeTermsHistory useAgreeTerms;
-
-    @Transient
-    private AgreeTermsHistory privacyPolicyAgreeTerms;
+    // 약관 종류별 현재 동의 상태 (전체 이력을 읽지 않고 종류별 최신 이력만 조회)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @MapKey(name = "termsType")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "user", cascade = CascadeType.PERSIST)
+    private Map<TermsType, AgreeTerms> currentAgreeTerms;
 
     @Embedded
     private SocialAuth socialAuth;
@@ -83,17 +93,17 @@ public abstract class User {
     private Long ver;
 
     public AgreeTermsHistory getUseAgreeTerms() {
-        if (this.agreeTermsHistories == null) return null;
-        Optional<AgreeTermsHistory> agreeTermsHistory = this.agreeTermsHistories.stream()
-            .filter(a -> a.getTermsType().equals(TermsType.USE)).findFirst();
-        return agreeTermsHistory.orElse(null);
+        return this.findCurrentAgreeTerms(TermsType.USE);
     }
 
     public AgreeTermsHistory getPrivacyPolicyAgreeTerms() {
-        if (this.agreeTermsHistories == null) return null;
-        Optional<AgreeTermsHistory> agreeTermsHistory = this.agreeTermsHistories.stream()
-            .filter(a -> a.getTermsType().equals(TermsType.PRIVACY_POLICY)).findFirst();
-        return agreeTermsHistory.orElse(null);
+        return this.findCurrentAgreeTerms(TermsType.PRIVACY_POLICY);
+    }
+
+    private AgreeTermsHistory findCurrentAgreeTerms(TermsType termsType) {
+        if (this.currentAgreeTerms == null) return null;
+        final AgreeTerms agreeTerms = this.currentAgreeTerms.get(termsType);
+        return agreeTerms == null ? null : agreeTerms.getHistory();
     }
 
     public void updateInfo(String nickname, String phone) {
@@ -106,12 +116,26 @@ public abstract class User {
     }
 
     public void agreeTerms(TermsType termsType, boolean agree) {
-        if (this.agreeTermsHistories == null) this.agreeTermsHistories = new ArrayList<>();
-        this.agreeTermsHistories.add(AgreeTermsHistory.builder()
+        final AgreeTermsHistory agreeTermsHistory = AgreeTermsHistory.builder()
             .user(this)
             .termsType(termsType)
             .agree(agree)
-            .build());
+            .build();
+        // 이력은 추가만 하므로 기존 이력을 읽지 않음
+        if (this.agreeTermsHistories == null) this.agreeTermsHistories = new ArrayList<>();
+        this.agreeTermsHistories.add(agreeTermsHistory);
+
+        if (this.currentAgreeTerms == null) this.currentAgreeTerms = new EnumMap<>(TermsType.class);
+        final AgreeTerms agreeTerms = this.currentAgreeTerms.get(termsType);
+        if (agreeTerms == null) {
+            this.currentAgreeTerms.put(termsType, AgreeTerms.builder()
+                .user(this)
+                .termsType(termsType)
+                .history(agreeTermsHistory)
+                .build());
+        } else {
+            agreeTerms.update(agreeTermsHistory);
+        }
     }
 
     public void clearProfileImage() {
@@ -0,0 +1,6 @@
+package com.ss.camper.user.domain;
+
+public interface UserEmail {
+    Long getId();
+    String getEmail();
+}
@@ -1,10 +1,16 @@
 package com.ss.camper.user.domain;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository {
     User save(User user);
+    // 인증용 (회원 테이블, social_auth 만 조회)
     Optional<User> findByEmail(String email);
     Optional<User> findById(Long id);
+    // 회원 정보 조회/수정용 (프로필 이미지, 현재 약관 동의까지 한 번에 조회)
+    Optional<User> findProfileByEmail(String email);
+    Optional<User> findProfileById(Long id);
     long countByEmail(String email);
+    Stream<UserEmail> streamEmailsByIdGreaterThan(Long id);
 }
@@ -1,8 +1,35 @@
 package com.ss.camper.user.infra;
 
 import com.ss.camper.user.domain.User;
+import com.ss.camper.user.domain.UserEmail;
 import com.ss.camper.user.domain.UserRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserJpgRepository extends JpaRepository<User, Long>, UserRepository {
+
+    // 약관 컬렉션 fetch join 으로 회원 행이 중복되므로 distinct (SQL 에는 distinct 를 넣지 않음)
+    @EntityGraph(value = User.PROFILE_GRAPH)
+    @QueryHints(value = @QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    @Query("select distinct u from User u where u.email = :email")
+    Optional<User> findProfileByEmail(@Param("email") String email);
+
+    @EntityGraph(value = User.PROFILE_GRAPH)
+    @QueryHints(value = @QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    @Query("select distinct u from User u where u.id = :id")
+    Optional<User> findProfileById(@Param("id") Long id);
+
+    // 엔티티를 만들지 않고 id, email 만 조회 (트랜잭션 안에서 사용 후 close 필요)
+    // MySQL Connector/J 는 useCursorFetch=true 가 없으면 fetchSize 와 관계없이 결과 전체를 메모리에 받으므로 스트리밍되지 않음
+    @QueryHints(value = @QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select u.id as id, u.email as email from User u where u.id > :id order by u.id")
+    Stream<UserEmail> streamEmailsByIdGreaterThan(@Param("id") Long id);
+
 }
@@ -0,0 +1,5 @@
+-- auth_code 정리(AuthCodePurgeJob) 조건 컬럼 인덱스
+-- 애플리케이션 배포 전 1회 실행
+
+CREATE INDEX idx_auth_code_expired ON auth_code (expired);
+CREATE INDEX idx_auth_code_created ON auth_code (created);
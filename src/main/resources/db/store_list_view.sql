@@ -0,0 +1,14 @@
+-- 매장 목록 조회 전용 테이블(store_list_view) 초기 적재
+-- 이후에는 매장 등록/수정/삭제 시 StoreService 에서 같은 트랜잭션으로 갱신
+-- 애플리케이션 배포 후 1회 실행 (이미 적재된 매장은 갱신)
+
+REPLACE INTO store_list_view (store_id, user_id, store_type, store_status, store_name, zip_code, default_address, detail_address,
+                              latitude, longitude, tel, homepage_url, reservation_url, introduction, tags)
+SELECT s.store_id, s.user_id, s.store_type, s.store_status, s.store_name, s.zip_code, s.default_address, s.detail_address,
+       s.latitude, s.longitude, s.tel, s.homepage_url, s.reservation_url, s.introduction,
+       (SELECT GROUP_CONCAT(t.title ORDER BY t.store_tag_id SEPARATOR ',')
+        FROM tag_of_store ts
+        JOIN store_tag t ON t.store_tag_id = ts.store_tag_id
+        WHERE ts.store_id = s.store_id)
+FROM store s
+WHERE s.deleted IS NULL;
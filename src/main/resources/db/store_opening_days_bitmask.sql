@@ -0,0 +1,19 @@
+-- store.opening_days : 콤마 구분 요일 문자열(VARCHAR) -> 요일 비트마스크(TINYINT) 변환
+-- 월요일 1, 화요일 2, 수요일 4, 목요일 8, 금요일 16, 토요일 32, 일요일 64 (StoreOpeningDaysConverter)
+-- 애플리케이션 배포 전에 실행
+
+ALTER TABLE store ADD COLUMN opening_days_bitmask TINYINT DEFAULT NULL AFTER opening_days;
+
+UPDATE store
+SET opening_days_bitmask = NULLIF(
+        IF(FIND_IN_SET('MONDAY', opening_days) > 0, 1, 0)
+      | IF(FIND_IN_SET('TUESDAY', opening_days) > 0, 2, 0)
+      | IF(FIND_IN_SET('WEDNESDAY', opening_days) > 0, 4, 0)
+      | IF(FIND_IN_SET('THURSDAY', opening_days) > 0, 8, 0)
+      | IF(FIND_IN_SET('FRIDAY', opening_days) > 0, 16, 0)
+      | IF(FIND_IN_SET('SATURDAY', opening_days) > 0, 32, 0)
+      | IF(FIND_IN_SET('SUNDAY', opening_days) > 0, 64, 0), 0)
+WHERE opening_days IS NOT NULL;
+
+ALTER TABLE store DROP COLUMN opening_days;
+ALTER TABLE store CHANGE COLUMN opening_days_bitmask opening_days TINYINT DEFAULT NULL;
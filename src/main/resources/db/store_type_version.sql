@@ -0,0 +1,9 @@
+-- 매장 유형 별 변경 횟수 테이블(store_type_version) 생성
+-- 매장 유형 별 목록 ETag 에 사용하며, 매장 등록/수정/삭제 시 StoreService 에서 같은 트랜잭션으로 증가
+-- 행이 없는 매장 유형은 첫 변경 시 등록되므로 초기 적재는 필요 없음
+
+CREATE TABLE IF NOT EXISTS store_type_version (
+    store_type VARCHAR(30) NOT NULL,
+    ver        BIGINT      NOT NULL,
+    PRIMARY KEY (store_type)
+);
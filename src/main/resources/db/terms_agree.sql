@@ -0,0 +1,18 @@
+-- 약관 종류별 현재 동의 상태 (User.currentAgreeTerms)
+-- 애플리케이션 배포 전 1회 실행, 기존 이력에서 회원/약관 종류별 최신 이력으로 채움
+
+CREATE TABLE terms_agree (
+    terms_agree_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    terms_type VARCHAR(30) NOT NULL,
+    terms_agree_history_id BIGINT NOT NULL,
+    PRIMARY KEY (terms_agree_id),
+    UNIQUE KEY uk_terms_agree_user_terms_type (user_id, terms_type),
+    CONSTRAINT fk_terms_agree_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_terms_agree_history FOREIGN KEY (terms_agree_history_id) REFERENCES terms_agree_history (terms_agree_history_id)
+);
+
+INSERT INTO terms_agree (user_id, terms_type, terms_agree_history_id)
+SELECT user_id, terms_type, MAX(terms_agree_history_id)
+FROM terms_agree_history
+GROUP BY user_id, terms_type;
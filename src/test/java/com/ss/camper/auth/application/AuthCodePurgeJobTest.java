@@ -0,0 +1,44 @@
+package com.ss.camper.auth.application;
+
+import com.ss.camper.auth.domain.AuthCodeRepositorySupport;
+import com.ss.camper.oauth2.config.AuthProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuthCodePurgeJobTest {
+
+    @Mock
+    private AuthCodeRepositorySupport authCodeRepositorySupport;
+
+    @Test
+    void 인증_코드_나누어_정리() {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setAuthCodePurgeBatchSize(2);
+        final AuthCodePurgeJob authCodePurgeJob = new AuthCodePurgeJob(authProperties, authCodeRepositorySupport);
+        given(authCodeRepositorySupport.getPurgeTargetIds(any(Date.class), any(Date.class), eq(2)))
+                .willReturn(Arrays.asList(1L, 2L), Collections.singletonList(3L));
+        given(authCodeRepositorySupport.deleteByIds(anyList())).willReturn(2L, 1L);
+
+        final long result = authCodePurgeJob.purge();
+
+        assertThat(result).isEqualTo(3);
+        assertThat(authCodePurgeJob.getLastPurgedCount()).isEqualTo(3);
+        assertThat(authCodePurgeJob.getPurgedCount()).isEqualTo(3);
+        assertThat(authCodePurgeJob.getRunCount()).isEqualTo(1);
+        verify(authCodeRepositorySupport, times(2)).deleteByIds(anyList());
+    }
+
+}
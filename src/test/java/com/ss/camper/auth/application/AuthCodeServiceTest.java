@@ -55,7 +55,7 @@ class AuthCodeServiceTest {
     void 인증_토큰_발급() {
         final String code = "1234567890_CODE";
         final String token = "1234567890_TOKEN";
-        given(authCodeRepository.findFirstByAuthCodeOrderByIdDesc(anyString()))
+        given(authCodeRepository.redeem(anyString()))
                 .willReturn(Optional.of(AuthCode.builder().authCode(code).token(token).build()));
 
         final String result = authCodeService.issueAuthToken(code);
@@ -65,7 +65,7 @@ class AuthCodeServiceTest {
 
     @Test
     void 인증_토큰_발급_인증_코드_발급_기록_없음() {
-        given(authCodeRepository.findFirstByAuthCodeOrderByIdDesc(anyString())).willReturn(Optional.empty());
+        given(authCodeRepository.redeem(anyString())).willReturn(Optional.empty());
 
         final String code = "1234567890_CODE";
         final String result = authCodeService.issueAuthToken(code);
@@ -3,6 +3,7 @@ package com.ss.camper.auth.application;
 import com.ss.camper.auth.application.exception.NotMatchedPasswordException;
 import com.ss.camper.auth.application.exception.NotSignedUpEmailException;
 import com.ss.camper.auth.application.exception.SingInWithdrawUserException;
+import com.ss.camper.common.util.JWTUtil;
 import com.ss.camper.user.application.dto.UserInfoDTO;
 import com.ss.camper.user.domain.User;
 import com.ss.camper.user.domain.UserRepository;
@@ -10,9 +11,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -20,28 +20,29 @@ import java.util.Optional;
 import static com.ss.camper.user.UserMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
-    @Spy
-    private ModelMapper modelMapper;
-
     @Mock
     private PasswordEncoder passwordEncoder;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private JWTUtil JWTUtil;
+
     @InjectMocks
     private AuthService authService;
 
     @Test
     void 이메일_로그인() {
         final User user = initClientUser(1L);
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(userRepository.findProfileByEmail(anyString())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
 
         final UserInfoDTO result = authService.signIn(EMAIL, PASSWORD);
@@ -55,14 +56,14 @@ class AuthServiceTest {
 
     @Test
     void 이메일_로그인_가입되지_않은_회원() {
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.empty());
+        given(userRepository.findProfileByEmail(anyString())).willReturn(Optional.empty());
         assertThrows(NotSignedUpEmailException.class, () -> authService.signIn(EMAIL, PASSWORD));
     }
 
     @Test
     void 이메일_로그인_비밀번호_불일치() {
         final User user = initClientUser(1L);
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(userRepository.findProfileByEmail(anyString())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
         assertThrows(NotMatchedPasswordException.class, () -> authService.signIn(EMAIL, PASSWORD));
     }
@@ -70,9 +71,19 @@ class AuthServiceTest {
     @Test
     void 이메일_로그인_탈퇴회원() {
         final User user = initWithdrawClientUser(1L);
-        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(userRepository.findProfileByEmail(anyString())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
         assertThrows(SingInWithdrawUserException.class, () -> authService.signIn(EMAIL, PASSWORD));
     }
 
-}
\ No newline at end of file
+    @Test
+    void 인증_토큰_발급() {
+        final String token = "1234567890_TOKEN";
+        given(JWTUtil.creatAuthToken(any(Authentication.class))).willReturn(token);
+
+        final String result = authService.issueAuthToken(UserInfoDTO.builder().id(1L).email(EMAIL).build());
+
+        assertThat(result).isEqualTo(token);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.ss.camper.auth.domain;
+
+import com.ss.camper.auth.infra.AuthCodeJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AuthCodeRepositorySupportTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Autowired
+    private AuthCodeJpaRepository authCodeJpaRepository;
+
+    @Autowired
+    private AuthCodeRepositorySupport authCodeRepositorySupport;
+
+    @AfterEach
+    void init() {
+        authCodeJpaRepository.deleteAll();
+    }
+
+    @Test
+    void 인증_코드_정리() {
+        final Date now = new Date();
+        final AuthCode expiredAuthCode = authCodeJpaRepository.save(initAuthCode("EXPIRED_CODE", new Date(now.getTime() - HOUR), null));
+        final AuthCode issuedAuthCode = authCodeJpaRepository.save(initAuthCode("ISSUED_CODE", new Date(now.getTime() + HOUR), now));
+        final AuthCode validAuthCode = authCodeJpaRepository.save(initAuthCode("VALID_CODE", new Date(now.getTime() + HOUR), null));
+
+        final List<Long> ids = authCodeRepositorySupport.getPurgeTargetIds(now, new Date(now.getTime() - HOUR), 10);
+        final long result = authCodeRepositorySupport.deleteByIds(ids);
+
+        assertThat(ids).containsExactly(expiredAuthCode.getId(), issuedAuthCode.getId());
+        assertThat(result).isEqualTo(2);
+        assertThat(authCodeJpaRepository.findAll()).extracting(AuthCode::getId).containsExactly(validAuthCode.getId());
+    }
+
+    @Test
+    void 인증_코드_정리_개수_제한() {
+        final Date now = new Date();
+        for (int i = 0; i < 3; i++) {
+            authCodeJpaRepository.save(initAuthCode("EXPIRED_CODE" + i, new Date(now.getTime() - HOUR), null));
+        }
+
+        final List<Long> result = authCodeRepositorySupport.getPurgeTargetIds(now, new Date(now.getTime() - HOUR), 2);
+
+        assertThat(result.size()).isEqualTo(2);
+    }
+
+    private AuthCode initAuthCode(final String code, final Date expired, final Date issued) {
+        return AuthCode.builder()
+                .authCode(code)
+                .userId(1L)
+                .token("TOKEN")
+                .expired(expired)
+                .issued(issued)
+                .build();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.ss.camper.auth.infra;
+
+import com.ss.camper.auth.domain.AuthCode;
+import com.ss.camper.oauth2.config.AuthProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthCodeMemoryRepositoryTest {
+
+    private static final String CODE = "1234567890_CODE";
+    private static final String TOKEN = "1234567890_TOKEN";
+
+    @Test
+    void 인증_코드_사용() {
+        final AuthCodeMemoryRepository authCodeMemoryRepository = initAuthCodeMemoryRepository(60000);
+        authCodeMemoryRepository.save(AuthCode.builder().authCode(CODE).userId(1L).token(TOKEN).build());
+
+        final Optional<AuthCode> result = authCodeMemoryRepository.redeem(CODE);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getToken()).isEqualTo(TOKEN);
+        assertThat(result.get().getIssued()).isNotNull();
+        assertThat(authCodeMemoryRepository.size()).isZero();
+    }
+
+    @Test
+    void 사용된_인증_코드_재사용() {
+        final AuthCodeMemoryRepository authCodeMemoryRepository = initAuthCodeMemoryRepository(60000);
+        authCodeMemoryRepository.save(AuthCode.builder().authCode(CODE).userId(1L).token(TOKEN).build());
+        authCodeMemoryRepository.redeem(CODE);
+
+        assertThat(authCodeMemoryRepository.redeem(CODE)).isEmpty();
+    }
+
+    @Test
+    void 만료된_인증_코드_사용() {
+        final AuthCodeMemoryRepository authCodeMemoryRepository = initAuthCodeMemoryRepository(0);
+        authCodeMemoryRepository.save(AuthCode.builder().authCode(CODE).userId(1L).token(TOKEN).build());
+
+        assertThat(authCodeMemoryRepository.redeem(CODE)).isEmpty();
+    }
+
+    @Test
+    void 만료된_인증_코드_정리() {
+        final AuthCodeMemoryRepository authCodeMemoryRepository = initAuthCodeMemoryRepository(0);
+        authCodeMemoryRepository.save(AuthCode.builder().authCode(CODE + 1).userId(1L).token(TOKEN).build());
+        authCodeMemoryRepository.save(AuthCode.builder().authCode(CODE + 2).userId(1L).token(TOKEN).build());
+
+        assertThat(authCodeMemoryRepository.size()).isEqualTo(1);
+    }
+
+    private AuthCodeMemoryRepository initAuthCodeMemoryRepository(final long expirationTime) {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setAuthCodeExpirationTime(expirationTime);
+        return new AuthCodeMemoryRepository(authProperties);
+    }
+
+}
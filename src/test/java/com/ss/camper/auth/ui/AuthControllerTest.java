@@ -36,11 +36,9 @@ class AuthControllerTest extends ControllerTest {
 
     @Test
     void 이메일_로그인() throws Exception {
-        final String code = "1234567890_CODE";
         final String token = "1234567890_TOKEN";
         given(authService.signIn(anyString(), anyString())).willReturn(initUserInfoDTO(1L, UserType.CLIENT));
-        given(authCodeService.issueAuthCode(any(UserInfoDTO.class))).willReturn(code);
-        given(authCodeService.issueAuthToken(anyString())).willReturn(token);
+        given(authService.issueAuthToken(any(UserInfoDTO.class))).willReturn(token);
 
         final SignInPayload.Request request = new SignInPayload.Request(EMAIL, PASSWORD);
         final ResultActions result = mockMvc.perform(
@@ -96,10 +96,35 @@ public class ApiDocumentUtil {
                 }
                 newResponseFields[idx++] = newField;
             }
-            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".count").type(JsonFieldType.NUMBER).description("총 데이터 수");
+            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".count").type(JsonFieldType.NUMBER).optional().description("총 데이터 수");
             newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".size").type(JsonFieldType.NUMBER).description("한 페이지에 보일 데이터 수");
             newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".currentPage").type(JsonFieldType.NUMBER).description("현재 페이지");
-            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".totalPage").type(JsonFieldType.NUMBER).description("총 페이지");
+            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".totalPage").type(JsonFieldType.NUMBER).optional().description("총 페이지");
+            responseFields = newResponseFields;
+        }
+        return responseFields;
+    }
+
+    public static FieldDescriptor[] cursorResponseFields(FieldDescriptor ... fieldDescriptors) {
+        FieldDescriptor[] responseFields = defaultResponseFields();
+        if (fieldDescriptors.length > 0) {
+            FieldDescriptor[] newResponseFields = Arrays.copyOf(responseFields, (responseFields.length + fieldDescriptors.length + 4));
+
+            int idx = responseFields.length;
+            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME).type(JsonFieldType.OBJECT).description("결과 데이터");
+            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".content[]").type(JsonFieldType.ARRAY).description("데이터 목록");
+            for (FieldDescriptor descriptor : fieldDescriptors) {
+                FieldDescriptor newField = fieldWithPath(RESULT_FILED_NAME + ".content[]." + descriptor.getPath()).type(descriptor.getType()).description(descriptor.getDescription());
+                if (descriptor.isOptional()) newField.optional();
+                if (descriptor.getAttributes() != null) {
+                    for (String key : descriptor.getAttributes().keySet()) {
+                        newField.attributes(key(key).value(descriptor.getAttributes().get(key)));
+                    }
+                }
+                newResponseFields[idx++] = newField;
+            }
+            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".size").type(JsonFieldType.NUMBER).description("한 페이지에 보일 데이터 수");
+            newResponseFields[idx++] = fieldWithPath(RESULT_FILED_NAME + ".next").type(JsonFieldType.STRING).optional().description("다음 페이지 커서 (마지막 페이지일 경우 null)");
             responseFields = newResponseFields;
         }
         return responseFields;
@@ -5,6 +5,7 @@ import com.ss.camper.common.util.JWTUtil;
 import com.ss.camper.oauth2.application.CustomOAuth2UserService;
 import com.ss.camper.oauth2.application.CustomUserDetailsService;
 import com.ss.camper.oauth2.application.HttpCookieOAuth2AuthorizationRequestRepository;
+import com.ss.camper.oauth2.application.TokenRevocationList;
 import com.ss.camper.oauth2.handler.CustomAuthenticationEntryPoint;
 import com.ss.camper.oauth2.handler.OAuth2AuthenticationFailureHandler;
 import com.ss.camper.oauth2.handler.OAuth2AuthenticationSuccessHandler;
@@ -25,6 +26,9 @@ public class ControllerTest {
     @MockBean
     private JWTUtil jwtUtil;
 
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+
     @MockBean
     private CustomUserDetailsService customUserDetailsService;
 
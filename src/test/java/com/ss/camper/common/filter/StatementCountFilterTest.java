@@ -0,0 +1,81 @@
+package com.ss.camper.common.filter;
+
+import com.ss.camper.common.util.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountFilterTest {
+
+    private final StatementCounter statementCounter = new StatementCounter();
+
+    // 요청 처리 중 Hibernate 가 SQL 을 count 번 실행한 것처럼 동작
+    private MockFilterChain filterChain(final int count) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                for (int i = 0; i < count; i++) {
+                    statementCounter.inspect("select 1");
+                }
+            }
+        });
+    }
+
+    @Test
+    void 요청별_SQL_수_집계() throws Exception {
+        final StatementCountFilter statementCountFilter = new StatementCountFilter(5, 1.0);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user");
+
+        statementCountFilter.doFilter(request, new MockHttpServletResponse(), filterChain(3));
+
+        assertThat(request.getAttribute(StatementCountFilter.STATEMENT_COUNT_ATTRIBUTE)).isEqualTo(3L);
+        assertThat(statementCountFilter.getSampledRequestCount()).isEqualTo(1);
+        assertThat(statementCountFilter.getStatementCount()).isEqualTo(3);
+        assertThat(statementCountFilter.getOverBudgetRequestCount()).isZero();
+    }
+
+    @Test
+    void 예산_초과_요청_집계() throws Exception {
+        final StatementCountFilter statementCountFilter = new StatementCountFilter(5, 1.0);
+
+        statementCountFilter.doFilter(new MockHttpServletRequest("GET", "/store"), new MockHttpServletResponse(), filterChain(8));
+        statementCountFilter.doFilter(new MockHttpServletRequest("GET", "/store"), new MockHttpServletResponse(), filterChain(2));
+
+        assertThat(statementCountFilter.getSampledRequestCount()).isEqualTo(2);
+        assertThat(statementCountFilter.getOverBudgetRequestCount()).isEqualTo(1);
+        assertThat(statementCountFilter.getMaxStatementCount()).isEqualTo(8);
+    }
+
+    @Test
+    void 샘플링_제외_요청은_집계하지_않음() throws Exception {
+        final StatementCountFilter statementCountFilter = new StatementCountFilter(5, 0.0);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user");
+
+        statementCountFilter.doFilter(request, new MockHttpServletResponse(), filterChain(3));
+
+        assertThat(request.getAttribute(StatementCountFilter.STATEMENT_COUNT_ATTRIBUTE)).isNull();
+        assertThat(statementCountFilter.getSampledRequestCount()).isZero();
+    }
+
+    @Test
+    void 중첩_집계는_바깥_집계에_포함() {
+        try (StatementCounter.Counter outer = StatementCounter.start()) {
+            statementCounter.inspect("select 1");
+            try (StatementCounter.Counter inner = StatementCounter.start()) {
+                statementCounter.inspect("select 2");
+                assertThat(inner.getCount()).isEqualTo(1);
+            }
+            assertThat(outer.getCount()).isEqualTo(2);
+        }
+        // 집계 종료 후에는 집계하지 않음
+        statementCounter.inspect("select 3");
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.ss.camper.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가된_값_조회() {
+        final BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put("value" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bloomFilter.mightContain("value" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void 추가되지_않은_값_오탐률() {
+        final BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put("value" + i);
+        }
+
+        int falsePositive = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain("other" + i)) falsePositive++;
+        }
+
+        assertThat(falsePositive).isLessThan(300);
+    }
+
+}
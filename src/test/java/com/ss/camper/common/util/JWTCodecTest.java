@@ -0,0 +1,69 @@
+package com.ss.camper.common.util;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JWTCodecTest {
+
+    private static final String OLD_SECRET = "camper-old";
+    private static final String NEW_SECRET = "camper-new";
+
+    @Test
+    void 토큰_서명_검증() {
+        final JWTCodec jwtCodec = new JWTCodec(initAuthProperties("k1", NEW_SECRET));
+
+        final String token = jwtCodec.encode(Jwts.builder().setSubject("1"));
+
+        final String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        assertThat(header).contains("\"" + JwsHeader.KEY_ID + "\":\"k1\"");
+        assertThat(jwtCodec.decode(token).getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    void kid_없는_토큰_검증() {
+        final JWTCodec jwtCodec = new JWTCodec(initAuthProperties(JWTCodec.LEGACY_KEY_ID, OLD_SECRET));
+        final String legacyToken = Jwts.builder().setSubject("1").signWith(SignatureAlgorithm.HS256, OLD_SECRET).compact();
+
+        final Claims claims = jwtCodec.decode(legacyToken);
+
+        assertThat(claims.getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    void 키_교체_후_이전_키로_발급된_토큰_검증() {
+        final String oldToken = new JWTCodec(initAuthProperties("k1", OLD_SECRET)).encode(Jwts.builder().setSubject("1"));
+        final AuthProperties authProperties = initAuthProperties("k2", NEW_SECRET);
+        authProperties.getToken().getPreviousTokenSecrets().put("k1", OLD_SECRET);
+        final JWTCodec jwtCodec = new JWTCodec(authProperties);
+
+        assertThat(jwtCodec.decode(oldToken).getSubject()).isEqualTo("1");
+        assertThat(jwtCodec.decode(jwtCodec.encode(Jwts.builder().setSubject("2"))).getSubject()).isEqualTo("2");
+    }
+
+    @Test
+    void 알_수_없는_키로_발급된_토큰_검증() {
+        final String token = new JWTCodec(initAuthProperties("k1", OLD_SECRET)).encode(Jwts.builder().setSubject("1"));
+        final JWTCodec jwtCodec = new JWTCodec(initAuthProperties("k2", NEW_SECRET));
+
+        assertThrows(SignatureException.class, () -> jwtCodec.decode(token));
+    }
+
+    private AuthProperties initAuthProperties(final String keyId, final String secret) {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setTokenSecretId(keyId);
+        authProperties.getToken().setTokenSecret(secret);
+        return authProperties;
+    }
+
+}
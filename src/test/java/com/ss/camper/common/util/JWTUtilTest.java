@@ -0,0 +1,52 @@
+package com.ss.camper.common.util;
+
+import com.ss.camper.oauth2.application.VerifiedTokenCache;
+import com.ss.camper.oauth2.config.AuthProperties;
+import com.ss.camper.oauth2.dto.UserPrincipal;
+import com.ss.camper.oauth2.exception.NotValidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JWTUtilTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JWTUtil jwtUtil;
+
+    @BeforeEach
+    void init() {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setTokenSecret("camper-test");
+        authProperties.getToken().setFindPasswordTokenExpirationTime(60 * 1000);
+        verifiedTokenCache = new VerifiedTokenCache(authProperties);
+        jwtUtil = new JWTUtil(authProperties, new JWTCodec(authProperties), verifiedTokenCache);
+    }
+
+    @Test
+    void 토큰_사용자_정보_조회() {
+        final String token = jwtUtil.creatFindPasswordToken("1", "test@test.com");
+
+        final UserPrincipal userPrincipal = jwtUtil.getPrincipal(token);
+
+        assertThat(userPrincipal.getName()).isEqualTo("1");
+        assertThat(userPrincipal.getUsername()).isEqualTo("test@test.com");
+        assertThat(verifiedTokenCache.get(token)).hasValueSatisfying(verifiedToken -> {
+            assertThat(verifiedToken.getUserPrincipal()).isSameAs(userPrincipal);
+            assertThat(verifiedToken.getTokenId()).isNotBlank();
+            assertThat(verifiedToken.getIssuedAt()).isPositive();
+        });
+        assertThat(jwtUtil.getPrincipal(token)).isSameAs(userPrincipal);
+    }
+
+    @Test
+    void 서명이_다른_토큰_사용자_정보_조회() {
+        final String token = jwtUtil.creatFindPasswordToken("1", "test@test.com");
+        final String forgedToken = token.substring(0, token.lastIndexOf('.') + 1) + "forged";
+
+        assertThrows(NotValidTokenException.class, () -> jwtUtil.getPrincipal(forgedToken));
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.ss.camper.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCookiesTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 요청당_한번만_생성() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("redirect_uri", "http://localhost:8080/auth/code"), new Cookie("user_type", "CLIENT"));
+
+        final RequestCookies requestCookies = RequestCookies.of(request);
+
+        assertThat(RequestCookies.of(request)).isSameAs(requestCookies);
+        assertThat(requestCookies.get("redirect_uri")).map(Cookie::getValue).hasValue("http://localhost:8080/auth/code");
+        assertThat(requestCookies.get("user_type")).map(Cookie::getValue).hasValue("CLIENT");
+        assertThat(requestCookies.get("none")).isEmpty();
+    }
+
+    @Test
+    void 현재_요청_기준_조회() {
+        final MockHttpServletRequest first = new MockHttpServletRequest();
+        first.setCookies(new Cookie("user_type", "CLIENT"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(first));
+        assertThat(CookieUtil.getCookie("user_type")).map(Cookie::getValue).hasValue("CLIENT");
+
+        final MockHttpServletRequest second = new MockHttpServletRequest();
+        second.setCookies(new Cookie("user_type", "BUSINESS"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(second));
+        assertThat(CookieUtil.getCookie("user_type")).map(Cookie::getValue).hasValue("BUSINESS");
+
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(CookieUtil.getCookie("user_type")).isEmpty();
+    }
+
+    @Test
+    void 쿠키_삭제() {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("user_type", "CLIENT"));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        CookieUtil.deleteCookie(request, response, "user_type");
+        CookieUtil.deleteCookie(request, response, "none");
+
+        assertThat(response.getCookies()).hasSize(1);
+        assertThat(response.getCookie("user_type").getValue()).isEmpty();
+        assertThat(response.getCookie("user_type").getMaxAge()).isZero();
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.ss.camper.oauth2.application;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizedRedirectUrisTest {
+
+    @Test
+    void 허용된_Redirect_URI_확인() {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getUris().authorizedRedirectUri(Arrays.asList("http://localhost:8080/auth/code", "https://Camper.com/login"));
+        final AuthorizedRedirectUris authorizedRedirectUris = new AuthorizedRedirectUris(authProperties);
+
+        assertThat(authorizedRedirectUris.isAuthorized("http://localhost:8080/auth/code?state=1")).isTrue();
+        assertThat(authorizedRedirectUris.isAuthorized("https://camper.com/login")).isTrue();
+        assertThat(authorizedRedirectUris.isAuthorized("http://localhost:9090/auth/code")).isFalse();
+        assertThat(authorizedRedirectUris.isAuthorized("http://localhost:8080/auth/other")).isFalse();
+        assertThat(authorizedRedirectUris.isAuthorized("not a uri")).isFalse();
+        assertThat(authorizedRedirectUris.isAuthorized(null)).isFalse();
+    }
+
+    @Test
+    void 설정_변경_후_다시_생성() {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getUris().authorizedRedirectUri(Collections.singletonList("http://localhost:8080/auth/code"));
+        final AuthorizedRedirectUris authorizedRedirectUris = new AuthorizedRedirectUris(authProperties);
+
+        authProperties.getUris().authorizedRedirectUri(Collections.singletonList("https://camper.com/login"));
+        authorizedRedirectUris.refresh();
+
+        assertThat(authorizedRedirectUris.isAuthorized("http://localhost:8080/auth/code")).isFalse();
+        assertThat(authorizedRedirectUris.isAuthorized("https://camper.com/login")).isTrue();
+    }
+
+}
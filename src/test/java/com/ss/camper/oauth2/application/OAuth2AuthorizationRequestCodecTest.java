@@ -0,0 +1,68 @@
+package com.ss.camper.oauth2.application;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2AuthorizationRequestCodecTest {
+
+    private OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+            .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+            .clientId("client-id")
+            .redirectUri("http://localhost:8080/login/oauth2/code/kakao")
+            .scopes(new LinkedHashSet<>(Arrays.asList("profile_nickname", "account_email")))
+            .state("state-value")
+            .additionalParameters(Collections.singletonMap("nonce", "nonce-value"))
+            .attributes(Collections.singletonMap(OAuth2ParameterNames.REGISTRATION_ID, "kakao"))
+            .authorizationRequestUri("https://kauth.kakao.com/oauth/authorize?response_type=code&client_id=client-id&state=state-value")
+            .build();
+    }
+
+    @Test
+    void 인코딩_디코딩() {
+        final OAuth2AuthorizationRequest authorizationRequest = authorizationRequest();
+
+        final OAuth2AuthorizationRequest decoded = OAuth2AuthorizationRequestCodec.decode(OAuth2AuthorizationRequestCodec.encode(authorizationRequest));
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getGrantType()).isEqualTo(authorizationRequest.getGrantType());
+        assertThat(decoded.getResponseType()).isEqualTo(authorizationRequest.getResponseType());
+        assertThat(decoded.getAuthorizationUri()).isEqualTo(authorizationRequest.getAuthorizationUri());
+        assertThat(decoded.getClientId()).isEqualTo(authorizationRequest.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(authorizationRequest.getRedirectUri());
+        assertThat(decoded.getScopes()).containsExactlyElementsOf(authorizationRequest.getScopes());
+        assertThat(decoded.getState()).isEqualTo(authorizationRequest.getState());
+        assertThat(decoded.getAdditionalParameters()).isEqualTo(authorizationRequest.getAdditionalParameters());
+        assertThat(decoded.getAttributes()).isEqualTo(authorizationRequest.getAttributes());
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(authorizationRequest.getAuthorizationRequestUri());
+    }
+
+    @Test
+    void Java_직렬화보다_작은_쿠키() {
+        final OAuth2AuthorizationRequest authorizationRequest = authorizationRequest();
+
+        final String encoded = OAuth2AuthorizationRequestCodec.encode(authorizationRequest);
+        final String serialized = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(authorizationRequest));
+
+        assertThat(encoded.length()).isLessThan(serialized.length());
+    }
+
+    @Test
+    void 잘못된_값_디코딩() {
+        final String serialized = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(authorizationRequest()));
+
+        assertThat(OAuth2AuthorizationRequestCodec.decode(serialized)).isNull();
+        assertThat(OAuth2AuthorizationRequestCodec.decode("not-base64!")).isNull();
+        assertThat(OAuth2AuthorizationRequestCodec.decode(Base64.getUrlEncoder().encodeToString("{}".getBytes()))).isNull();
+    }
+
+}
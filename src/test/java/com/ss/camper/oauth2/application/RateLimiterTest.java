@@ -0,0 +1,70 @@
+package com.ss.camper.oauth2.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    @Test
+    void 허용_수_초과_시_제한() {
+        final RateLimiter rateLimiter = new RateLimiter(3, 1, TimeUnit.HOURS, 10);
+
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isFalse();
+        assertThat(rateLimiter.tryAcquire("127.0.0.2")).isTrue();
+    }
+
+    @Test
+    void 시간_경과_후_다시_허용() throws InterruptedException {
+        final RateLimiter rateLimiter = new RateLimiter(1, 20, TimeUnit.MILLISECONDS, 10);
+
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isFalse();
+        Thread.sleep(30);
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+    }
+
+    @Test
+    void 최대_키_수_초과_시_제거() {
+        final RateLimiter rateLimiter = new RateLimiter(3, 1, TimeUnit.HOURS, 2);
+
+        rateLimiter.tryAcquire("127.0.0.1");
+        rateLimiter.tryAcquire("127.0.0.2");
+        rateLimiter.tryAcquire("127.0.0.3");
+
+        assertThat(rateLimiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 최대_키_수_초과_시_채워진_버킷부터_제거() throws InterruptedException {
+        final RateLimiter rateLimiter = new RateLimiter(1, 50, TimeUnit.MILLISECONDS, 2);
+
+        rateLimiter.tryAcquire("127.0.0.1");
+        Thread.sleep(60);
+        rateLimiter.tryAcquire("127.0.0.2");
+        rateLimiter.tryAcquire("127.0.0.3");
+
+        // 제한 중인 버킷은 유지
+        assertThat(rateLimiter.size()).isEqualTo(2);
+        assertThat(rateLimiter.tryAcquire("127.0.0.2")).isFalse();
+    }
+
+    @Test
+    void 최대_키_수_초과_시_가장_많이_채워진_버킷_제거() {
+        final RateLimiter rateLimiter = new RateLimiter(2, 1, TimeUnit.HOURS, 2);
+
+        rateLimiter.tryAcquire("127.0.0.1");
+        rateLimiter.tryAcquire("127.0.0.1");
+        rateLimiter.tryAcquire("127.0.0.2");
+        rateLimiter.tryAcquire("127.0.0.3");
+
+        assertThat(rateLimiter.size()).isEqualTo(2);
+        assertThat(rateLimiter.tryAcquire("127.0.0.1")).isFalse();
+    }
+
+}
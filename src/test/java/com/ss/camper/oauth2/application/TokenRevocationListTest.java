@@ -0,0 +1,73 @@
+package com.ss.camper.oauth2.application;
+
+import com.ss.camper.auth.domain.TokenRevocation;
+import com.ss.camper.auth.domain.TokenRevocationRepository;
+import com.ss.camper.oauth2.dto.UserPrincipal;
+import com.ss.camper.oauth2.dto.VerifiedToken;
+import com.ss.camper.user.application.dto.UserInfoDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @InjectMocks
+    private TokenRevocationList tokenRevocationList;
+
+    @Test
+    void 회원_토큰_무효화() {
+        final long now = System.currentTimeMillis();
+        tokenRevocationList.revokeUser(1L, now, now + HOUR);
+
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(1L, "token1", now - 1000))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(1L, "token2", now + 1000))).isFalse();
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(2L, "token3", now - 1000))).isFalse();
+    }
+
+    @Test
+    void 토큰_무효화() {
+        final long now = System.currentTimeMillis();
+        tokenRevocationList.revokeToken("token1", now + HOUR);
+
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(1L, "token1", now))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(1L, "token2", now))).isFalse();
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(1L, null, now))).isFalse();
+    }
+
+    @Test
+    void 무효화_목록_적재() {
+        final long now = System.currentTimeMillis();
+        given(tokenRevocationRepository.findByExpiredAfter(any(Date.class))).willReturn(Collections.singletonList(
+            TokenRevocation.ofUser(1L, new Date(now), new Date(now + HOUR))));
+        // 적재 전 이 인스턴스에서 추가된 무효화 (조회 결과에 없어도 유지)
+        tokenRevocationList.revokeToken("token1", now + HOUR);
+        tokenRevocationList.revokeToken("expiredToken", now - 1);
+
+        tokenRevocationList.load();
+
+        assertThat(tokenRevocationList.size()).isEqualTo(2);
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(1L, "token2", now - 1000))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(initVerifiedToken(2L, "token1", now))).isTrue();
+    }
+
+    private VerifiedToken initVerifiedToken(final long userId, final String tokenId, final long issuedAt) {
+        final UserPrincipal userPrincipal = UserPrincipal.create(UserInfoDTO.builder().id(userId).email("user" + userId + "@test.com").build());
+        return new VerifiedToken(userPrincipal, tokenId, issuedAt, issuedAt + HOUR);
+    }
+
+}
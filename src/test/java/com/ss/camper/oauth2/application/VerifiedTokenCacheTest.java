@@ -0,0 +1,66 @@
+package com.ss.camper.oauth2.application;
+
+import com.ss.camper.oauth2.config.AuthProperties;
+import com.ss.camper.oauth2.dto.UserPrincipal;
+import com.ss.camper.oauth2.dto.VerifiedToken;
+import com.ss.camper.user.application.dto.UserInfoDTO;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Test
+    void 검증된_토큰_조회() {
+        final VerifiedTokenCache verifiedTokenCache = initVerifiedTokenCache(10);
+        final VerifiedToken verifiedToken = initVerifiedToken(1L, System.currentTimeMillis() + HOUR);
+        verifiedTokenCache.put("token1", verifiedToken);
+
+        assertThat(verifiedTokenCache.get("token1")).containsSame(verifiedToken);
+        assertThat(verifiedTokenCache.get("token2")).isEmpty();
+    }
+
+    @Test
+    void 만료된_토큰은_저장하지_않음() {
+        final VerifiedTokenCache verifiedTokenCache = initVerifiedTokenCache(10);
+        verifiedTokenCache.put("token1", initVerifiedToken(1L, System.currentTimeMillis() - 1));
+
+        assertThat(verifiedTokenCache.get("token1")).isEmpty();
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    void 최대_개수_초과_시_제거() {
+        final VerifiedTokenCache verifiedTokenCache = initVerifiedTokenCache(2);
+        final long expiredAt = System.currentTimeMillis() + HOUR;
+        verifiedTokenCache.put("token1", initVerifiedToken(1L, expiredAt));
+        verifiedTokenCache.put("token2", initVerifiedToken(2L, expiredAt));
+        verifiedTokenCache.put("token3", initVerifiedToken(3L, expiredAt));
+
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+        assertThat(verifiedTokenCache.get("token3")).isPresent();
+    }
+
+    @Test
+    void 토큰_제거() {
+        final VerifiedTokenCache verifiedTokenCache = initVerifiedTokenCache(10);
+        verifiedTokenCache.put("token1", initVerifiedToken(1L, System.currentTimeMillis() + HOUR));
+        verifiedTokenCache.remove("token1");
+
+        assertThat(verifiedTokenCache.get("token1")).isEmpty();
+    }
+
+    private VerifiedTokenCache initVerifiedTokenCache(final int maxSize) {
+        final AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setVerifiedTokenCacheSize(maxSize);
+        return new VerifiedTokenCache(authProperties);
+    }
+
+    private VerifiedToken initVerifiedToken(final long userId, final long expiredAt) {
+        final UserPrincipal userPrincipal = UserPrincipal.create(UserInfoDTO.builder().id(userId).email("user" + userId + "@test.com").build());
+        return new VerifiedToken(userPrincipal, "token-id-" + userId, System.currentTimeMillis(), expiredAt);
+    }
+
+}
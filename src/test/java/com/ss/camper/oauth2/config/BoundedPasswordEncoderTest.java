@@ -0,0 +1,93 @@
+package com.ss.camper.oauth2.config;
+
+import com.ss.camper.common.exception.PasswordHashBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void 비밀번호_암호화_검증() {
+        final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, 5000);
+
+        final String encodedPassword = passwordEncoder.encode("password");
+
+        assertThat(passwordEncoder.matches("password", encodedPassword)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encodedPassword)).isFalse();
+        assertThat(passwordEncoder.getHashCount()).isEqualTo(3);
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 대기열_초과_시_즉시_실패() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1, 5000);
+
+        // 처리 중 1, 대기 1
+        final CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password1"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("password2"));
+        while (passwordEncoder.getQueueSize() == 0) Thread.sleep(1);
+
+        assertThrows(PasswordHashBusyException.class, () -> passwordEncoder.encode("password3"));
+        assertThat(passwordEncoder.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("password1");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("password2");
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 대기_시간_초과_시_실패() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1, 100);
+
+        assertThrows(PasswordHashBusyException.class, () -> passwordEncoder.encode("password"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(passwordEncoder.getAbandonedCount()).isEqualTo(1);
+
+        // 이미 시작된 작업은 중단되지 않고 끝날 때까지 스레드를 점유
+        assertThat(passwordEncoder.getActiveCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(passwordEncoder.matches("password", "password")).isTrue();
+        passwordEncoder.destroy();
+    }
+
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private BlockingPasswordEncoder(final CountDownLatch started, final CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(final CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+
+}
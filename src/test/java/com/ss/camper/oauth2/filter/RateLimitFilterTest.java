@@ -0,0 +1,158 @@
+package com.ss.camper.oauth2.filter;
+
+import com.ss.camper.common.payload.ApiResponseType;
+import com.ss.camper.oauth2.application.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String BODY = "{\"email\":\"Camper@gmail.com\",\"password\":\"password\"}";
+
+    @Test
+    void IP_별_요청_수_제한() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(1), initRateLimiter(10));
+
+        assertThat(doFilter(rateLimitFilter, "/auth/authorization", "127.0.0.1", BODY).getStatus()).isEqualTo(HttpStatus.OK.value());
+        final MockHttpServletResponse result = doFilter(rateLimitFilter, "/user/client", "127.0.0.1", BODY);
+
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(result.getContentAsString()).contains(ApiResponseType.TOO_MANY_REQUESTS.getMessage());
+    }
+
+    @Test
+    void 이메일_별_요청_수_제한() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(10), initRateLimiter(1));
+
+        assertThat(doFilter(rateLimitFilter, "/auth/authorization", "127.0.0.1", BODY).getStatus()).isEqualTo(HttpStatus.OK.value());
+        final MockHttpServletResponse result = doFilter(rateLimitFilter, "/auth/authorization", "127.0.0.2", BODY.replace("Camper", "camper"));
+
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void Content_Length_없는_요청_이메일_별_요청_수_제한() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(10), initRateLimiter(1));
+
+        assertThat(doFilter(rateLimitFilter, initChunkedRequest("127.0.0.1", BODY)).getStatus()).isEqualTo(HttpStatus.OK.value());
+        final MockHttpServletResponse result = doFilter(rateLimitFilter, initChunkedRequest("127.0.0.2", BODY));
+
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void 최대_크기_초과_요청_거부() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(10), initRateLimiter(10));
+        final String body = BODY.replace("\"password\"}", "\"password\",\"padding\":\"" + "a".repeat(8 * 1024) + "\"}");
+
+        assertThat(doFilter(rateLimitFilter, "/auth/authorization", "127.0.0.1", body).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(doFilter(rateLimitFilter, initChunkedRequest("127.0.0.1", body)).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void 제한_대상이_아닌_요청() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(1), initRateLimiter(1));
+
+        doFilter(rateLimitFilter, "/user/client", "127.0.0.1", BODY);
+        final MockHttpServletResponse result = doFilter(rateLimitFilter, "/store", "127.0.0.1", BODY);
+
+        assertThat(result.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void 요청_본문_다시_읽기() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(10), initRateLimiter(10));
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        rateLimitFilter.doFilter(initRequest("/auth/authorization", "127.0.0.1", BODY), new MockHttpServletResponse(), filterChain);
+
+        assertThat(StreamUtils.copyToString(filterChain.getRequest().getInputStream(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void 요청_본문_비동기_읽기() throws Exception {
+        final RateLimitFilter rateLimitFilter = new RateLimitFilter(initRateLimiter(10), initRateLimiter(10));
+        final MockFilterChain filterChain = new MockFilterChain();
+        rateLimitFilter.doFilter(initRequest("/auth/authorization", "127.0.0.1", BODY), new MockHttpServletResponse(), filterChain);
+
+        final ServletInputStream inputStream = filterChain.getRequest().getInputStream();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final AtomicBoolean allDataRead = new AtomicBoolean();
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (inputStream.isReady() && !inputStream.isFinished()) body.write(inputStream.read());
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+
+        assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(allDataRead).isTrue();
+    }
+
+    private MockHttpServletResponse doFilter(final RateLimitFilter rateLimitFilter, final String uri, final String ip, final String body) throws Exception {
+        return doFilter(rateLimitFilter, initRequest(uri, ip, body));
+    }
+
+    private MockHttpServletResponse doFilter(final RateLimitFilter rateLimitFilter, final MockHttpServletRequest request) throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    // Transfer-Encoding: chunked 요청 (Content-Length 없음)
+    private MockHttpServletRequest initChunkedRequest(final String ip, final String body) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/authorization") {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setRemoteAddr(ip);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletRequest initRequest(final String uri, final String ip, final String body) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(ip);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private RateLimiter initRateLimiter(final int capacity) {
+        return new RateLimiter(capacity, 1, TimeUnit.HOURS, 100);
+    }
+
+}
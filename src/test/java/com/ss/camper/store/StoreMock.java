@@ -7,6 +7,9 @@ import com.ss.camper.store.domain.*;
 
 import java.sql.Timestamp;
 import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -21,8 +24,9 @@ public class StoreMock {
     public static final String RESERVATION_URL = "http://r.camperstory.com/resMain.hbb?reserve_path=RP&campseq=3658";
     public static final String INTRODUCTION = "안녕하세요. 하늘 캠핑장입니다..";
     public static final Set<DayOfWeek> OPENING_DAYS = new HashSet<>() {{ add(DayOfWeek.MONDAY); add(DayOfWeek.THURSDAY); }};
-    public static final Timestamp OPEN_TIME = Timestamp.valueOf("2022-02-18 09:00:00");
-    public static final Timestamp CLOSE_TIME = Timestamp.valueOf("2022-02-18 21:00:00");
+    // 영업 시각은 매장 시간대(Asia/Seoul) 기준 (JVM 기본 시간대와 무관)
+    public static final Timestamp OPEN_TIME = Timestamp.from(ZonedDateTime.of(2022, 2, 18, 9, 0, 0, 0, ZoneId.of("Asia/Seoul")).toInstant());
+    public static final Timestamp CLOSE_TIME = Timestamp.from(ZonedDateTime.of(2022, 2, 18, 21, 0, 0, 0, ZoneId.of("Asia/Seoul")).toInstant());
     public static final String TAG_TITLE1 = "TEST_가족캠핑";
     public static final String TAG_TITLE2 = "TEST_연인캠핑";
     public static final String TAG_TITLE3 = "TEST_솔로캠핑";
@@ -84,7 +88,7 @@ public class StoreMock {
                 .homepageUrl(HOMEPAGE_URL)
                 .reservationUrl(RESERVATION_URL)
                 .introduction(INTRODUCTION)
-                .tags(String.join(",", tags))
+                .tags(new HashSet<>(Arrays.asList(tags)))
                 .build();
     }
 
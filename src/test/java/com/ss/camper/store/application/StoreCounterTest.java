@@ -0,0 +1,85 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCounterTest {
+
+    @Mock
+    private StoreRepositorySupport storeRepositorySupport;
+
+    @InjectMocks
+    private StoreCounter storeCounter;
+
+    @BeforeEach
+    void init() {
+        given(storeRepositorySupport.getStoreCountByType()).willReturn(new HashMap<>(){{
+            put(StoreType.CAMP_GROUND, 3L);
+        }});
+        given(storeRepositorySupport.getStoreCountByUserId()).willReturn(new HashMap<>(){{
+            put(1L, 2L);
+            put(2L, 1L);
+        }});
+        storeCounter.load();
+    }
+
+    @Test
+    void 매장_수_조회() {
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_GROUND)).isEqualTo(3);
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_SUPPLY)).isEqualTo(0);
+        assertThat(storeCounter.getCountByUserId(1L)).isEqualTo(2);
+        assertThat(storeCounter.getCountByUserId(3L)).isEqualTo(0);
+    }
+
+    @Test
+    void 매장_등록_삭제_시_매장_수_증감() {
+        storeCounter.increase(StoreType.CAMP_SUPPLY, 3L);
+        storeCounter.decrease(StoreType.CAMP_GROUND, 1L);
+
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_SUPPLY)).isEqualTo(1);
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_GROUND)).isEqualTo(2);
+        assertThat(storeCounter.getCountByUserId(3L)).isEqualTo(1);
+        assertThat(storeCounter.getCountByUserId(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void 매장_수는_0_미만으로_감소하지_않음() {
+        storeCounter.decrease(StoreType.CAMP_SUPPLY, 3L);
+
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_SUPPLY)).isEqualTo(0);
+        assertThat(storeCounter.getCountByUserId(3L)).isEqualTo(0);
+    }
+
+    @Test
+    void 다른_인스턴스_등록_삭제_주기적_반영() {
+        storeCounter.increase(StoreType.CAMP_SUPPLY, 3L);
+        given(storeRepositorySupport.getStoreCountByType()).willReturn(new HashMap<>(){{
+            put(StoreType.CAMP_GROUND, 4L);
+        }});
+        given(storeRepositorySupport.getStoreCountByUserId()).willReturn(new HashMap<>(){{
+            put(1L, 3L);
+            put(2L, 1L);
+        }});
+
+        storeCounter.resync();
+
+        // 커밋되지 않은 증감 등으로 어긋난 값은 DB 기준으로 맞춤
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_GROUND)).isEqualTo(4);
+        assertThat(storeCounter.getCountByType(StoreType.CAMP_SUPPLY)).isEqualTo(0);
+        assertThat(storeCounter.getCountByUserId(1L)).isEqualTo(3);
+        assertThat(storeCounter.getCountByUserId(3L)).isEqualTo(0);
+    }
+
+}
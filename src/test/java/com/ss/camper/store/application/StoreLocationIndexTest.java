@@ -0,0 +1,116 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreLocation;
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreLocationIndexTest {
+
+    @Mock
+    private StoreRepositorySupport storeRepositorySupport;
+
+    @InjectMocks
+    private StoreLocationIndex storeLocationIndex;
+
+    @BeforeEach
+    void init() {
+        given(storeRepositorySupport.getStoreLocations()).willReturn(new ArrayList<>(){{
+            add(new StoreLocation(1L, StoreType.CAMP_GROUND, 37.5665f, 126.9780f)); // 서울 시청
+            add(new StoreLocation(2L, StoreType.CAMP_GROUND, 37.5796f, 126.9770f)); // 경복궁 (약 1.5km)
+            add(new StoreLocation(3L, StoreType.CAMP_SUPPLY, 37.5700f, 126.9830f)); // 약 0.6km
+            add(new StoreLocation(4L, StoreType.CAMP_GROUND, 35.1796f, 129.0756f)); // 부산
+        }});
+        storeLocationIndex.load();
+    }
+
+    @Test
+    void 반경_내_가까운_순_조회() {
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(37.5665, 126.9780, 5, null, 10);
+
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(1L, 3L, 2L);
+        assertThat(result.get(1L)).isLessThan(0.01);
+    }
+
+    @Test
+    void 매장_유형_별_반경_내_조회() {
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(37.5665, 126.9780, 5, StoreType.CAMP_GROUND, 10);
+
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 조회_건수_제한() {
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(37.5665, 126.9780, 500, null, 2);
+
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 매장_위치_변경_및_삭제() {
+        storeLocationIndex.put(new StoreLocation(4L, StoreType.CAMP_GROUND, 37.5666f, 126.9781f));
+        storeLocationIndex.remove(1L);
+
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(37.5665, 126.9780, 1, null, 10);
+
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(4L, 3L);
+        assertThat(storeLocationIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 경도_범위가_한_바퀴_이상이면_중복_없이_조회() {
+        storeLocationIndex.put(new StoreLocation(5L, StoreType.CAMP_GROUND, 89.95f, 10f));
+        storeLocationIndex.put(new StoreLocation(6L, StoreType.CAMP_GROUND, 89.9f, 10f));
+
+        // 기준 경도의 반대편 열(-170 + 180)이 두 번 조회되면 같은 매장이 조회 건수를 채움
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(89.95, -170, 500, null, 2);
+
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(5L, 6L);
+    }
+
+    @Test
+    void 다른_인스턴스_변경_주기적_반영() {
+        given(storeRepositorySupport.getStoreLocations()).willReturn(new ArrayList<>(){{
+            add(new StoreLocation(1L, StoreType.CAMP_GROUND, 37.5665f, 126.9780f));
+            add(new StoreLocation(3L, StoreType.CAMP_SUPPLY, 37.5700f, 126.9830f));
+            add(new StoreLocation(5L, StoreType.CAMP_GROUND, 37.5666f, 126.9781f));
+        }});
+
+        storeLocationIndex.refresh();
+
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(37.5665, 126.9780, 5, null, 10);
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(1L, 5L, 3L);
+        assertThat(storeLocationIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 재적재_조회_중_변경된_매장_유지() {
+        // DB 조회 중 이 인스턴스에서 매장 5 등록, 매장 1 삭제 (조회 결과는 변경 이전 상태)
+        given(storeRepositorySupport.getStoreLocations()).willAnswer(invocation -> {
+            storeLocationIndex.put(new StoreLocation(5L, StoreType.CAMP_GROUND, 37.5666f, 126.9781f));
+            storeLocationIndex.remove(1L);
+            return new ArrayList<>(){{
+                add(new StoreLocation(1L, StoreType.CAMP_GROUND, 37.5665f, 126.9780f));
+                add(new StoreLocation(3L, StoreType.CAMP_SUPPLY, 37.5700f, 126.9830f));
+            }};
+        });
+
+        storeLocationIndex.refresh();
+
+        final LinkedHashMap<Long, Double> result = storeLocationIndex.search(37.5665, 126.9780, 5, null, 10);
+        assertThat(new ArrayList<>(result.keySet())).containsExactly(5L, 3L);
+    }
+
+}
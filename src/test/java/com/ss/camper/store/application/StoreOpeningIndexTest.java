@@ -0,0 +1,141 @@
+package com.ss.camper.store.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ss.camper.store.domain.StoreOpeningHours;
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import com.ss.camper.store.ui.payload.RegisterStorePayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.TimeZone;
+
+import static com.ss.camper.store.StoreMock.initStore;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreOpeningIndexTest {
+
+    // 2022-02-19 토요일, 2022-02-20 일요일, 2022-02-21 월요일
+    private static final LocalDateTime SATURDAY_MORNING = LocalDateTime.of(2022, 2, 19, 10, 0);
+    private static final LocalDateTime SUNDAY_NIGHT = LocalDateTime.of(2022, 2, 20, 23, 30);
+    private static final LocalDateTime MONDAY_DAWN = LocalDateTime.of(2022, 2, 21, 1, 0);
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2022, 2, 21, 10, 0);
+
+    @Mock
+    private StoreRepositorySupport storeRepositorySupport;
+
+    @InjectMocks
+    private StoreOpeningIndex storeOpeningIndex;
+
+    @BeforeEach
+    void init() throws Exception {
+        // 주말 09:00 ~ 18:00
+        storeOpeningIndex.put(new StoreOpeningHours(1L, StoreType.CAMP_GROUND, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY),
+            time("09:00"), time("18:00")));
+        // 일요일 22:00 ~ 다음날 02:00
+        storeOpeningIndex.put(new StoreOpeningHours(2L, StoreType.CAMP_GROUND, EnumSet.of(DayOfWeek.SUNDAY),
+            time("22:00"), time("02:00")));
+        // 매일 종일 영업
+        storeOpeningIndex.put(new StoreOpeningHours(3L, StoreType.CAMP_SUPPLY, EnumSet.allOf(DayOfWeek.class), null, null));
+        // 영업 요일 미등록
+        storeOpeningIndex.put(new StoreOpeningHours(4L, StoreType.CAMP_GROUND, null, null, null));
+    }
+
+    @Test
+    void 영업_중인_매장_조회() {
+        assertThat(storeOpeningIndex.search(SATURDAY_MORNING, null)).containsExactly(3L, 1L);
+        assertThat(storeOpeningIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 자정을_넘겨_영업하는_매장_조회() {
+        assertThat(storeOpeningIndex.search(SUNDAY_NIGHT, StoreType.CAMP_GROUND)).containsExactly(2L);
+        assertThat(storeOpeningIndex.search(MONDAY_DAWN, StoreType.CAMP_GROUND)).containsExactly(2L);
+    }
+
+    @Test
+    void 매장_유형_별_영업_중인_매장_조회() {
+        assertThat(storeOpeningIndex.search(SATURDAY_MORNING, StoreType.CAMP_SUPPLY)).containsExactly(3L);
+    }
+
+    @Test
+    void 영업_시간_변경_및_삭제() {
+        storeOpeningIndex.put(new StoreOpeningHours(1L, StoreType.CAMP_GROUND, EnumSet.of(DayOfWeek.MONDAY), null, null));
+        storeOpeningIndex.remove(3L);
+
+        assertThat(storeOpeningIndex.search(SATURDAY_MORNING, null)).isEmpty();
+        assertThat(storeOpeningIndex.search(MONDAY_DAWN, null)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 매장_시간대_기준_영업_시각() throws Exception {
+        final TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        try {
+            // 매장 등록 요청과 같은 방식으로 역직렬화 (HH:mm, Asia/Seoul)
+            final RegisterStorePayload.Request request = new ObjectMapper().readValue(
+                "{\"openTime\":\"09:00\",\"closeTime\":\"18:00\"}", RegisterStorePayload.Request.class);
+            storeOpeningIndex.put(new StoreOpeningHours(5L, StoreType.CAMP_GROUND, EnumSet.of(DayOfWeek.MONDAY),
+                request.getOpenTime(), request.getCloseTime()));
+
+            assertThat(storeOpeningIndex.search(MONDAY_MORNING, StoreType.CAMP_GROUND)).containsExactly(5L);
+            assertThat(storeOpeningIndex.search(MONDAY_DAWN, StoreType.CAMP_GROUND)).containsExactly(2L);
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    void 다른_인스턴스_변경_주기적_반영() {
+        // 월/목 09:00 ~ 21:00
+        given(storeRepositorySupport.getStoreListForOpeningIndex(isNull(), anyInt())).willReturn(new ArrayList<>(){{
+            add(StoreOpeningHours.of(initStore(1L, 5L, null)));
+        }});
+
+        storeOpeningIndex.refresh();
+
+        // DB 에 없는 매장은 제거
+        assertThat(storeOpeningIndex.search(MONDAY_MORNING, null)).containsExactly(5L);
+        assertThat(storeOpeningIndex.search(SATURDAY_MORNING, null)).isEmpty();
+        assertThat(storeOpeningIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 재적재_조회_중_변경된_매장_유지() {
+        // DB 조회 중 이 인스턴스에서 매장 5 등록, 매장 3 삭제 (조회 결과는 변경 이전 상태)
+        given(storeRepositorySupport.getStoreListForOpeningIndex(isNull(), anyInt())).willAnswer(invocation -> {
+            storeOpeningIndex.put(new StoreOpeningHours(5L, StoreType.CAMP_GROUND, EnumSet.of(DayOfWeek.SATURDAY), null, null));
+            storeOpeningIndex.remove(3L);
+            return new ArrayList<>(){{
+                add(new StoreOpeningHours(3L, StoreType.CAMP_SUPPLY, EnumSet.allOf(DayOfWeek.class), null, null));
+            }};
+        });
+
+        storeOpeningIndex.refresh();
+
+        assertThat(storeOpeningIndex.search(SATURDAY_MORNING, null)).containsExactly(5L);
+    }
+
+    // 매장 시간대(Asia/Seoul) 기준 HH:mm
+    private static Date time(final String time) throws ParseException {
+        final SimpleDateFormat format = new SimpleDateFormat("HH:mm");
+        format.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        return format.parse(time);
+    }
+
+}
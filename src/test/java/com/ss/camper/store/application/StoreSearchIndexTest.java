@@ -0,0 +1,121 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreRepositorySupport;
+import com.ss.camper.store.domain.StoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ss.camper.store.StoreMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSearchIndexTest {
+
+    @Mock
+    private StoreRepositorySupport storeRepositorySupport;
+
+    @InjectMocks
+    private StoreSearchIndex storeSearchIndex;
+
+    @BeforeEach
+    void init() {
+        given(storeRepositorySupport.getStoreListForIndex(isNull(), anyInt())).willReturn(new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }});
+        storeSearchIndex.load();
+        storeSearchIndex.put(2L, StoreType.CAMP_GROUND, "바다 캠핑장", "가족캠핑 하기 좋은 바다 앞 캠핑장입니다.", new ArrayList<>());
+        storeSearchIndex.put(3L, StoreType.CAMP_SUPPLY, "캠핑 용품점", "하늘 아래 캠핑용품 전문점", new ArrayList<>(){{ add("장비"); }});
+    }
+
+    @Test
+    void 한글_2gram_분리() {
+        assertThat(StoreSearchIndex.tokenize("하늘 캠핑장")).containsExactly("하늘", "캠핑", "핑장");
+        assertThat(StoreSearchIndex.tokenize("A 캠프")).containsExactly("a", "캠프");
+        assertThat(StoreSearchIndex.indexTokenize("캠핑장")).containsExactly("캠핑", "핑장", "캠", "핑", "장");
+    }
+
+    @Test
+    void 한_글자_검색() {
+        assertThat(storeSearchIndex.search("바", null)).containsExactly(2L);
+        // 매장 명에 검색어가 있는 매장이 소개에만 있는 매장보다 우선
+        assertThat(storeSearchIndex.search("늘", null)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 매장_명_가중치_순_검색() {
+        final List<Long> result = storeSearchIndex.search("하늘", null);
+
+        // 매장 명에 검색어가 있는 매장이 소개에만 있는 매장보다 우선
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 매장_유형_별_검색() {
+        final List<Long> result = storeSearchIndex.search("캠핑", StoreType.CAMP_SUPPLY);
+
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Test
+    void 태그_검색() {
+        final List<Long> result = storeSearchIndex.search("가족캠핑", null);
+
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 모든_검색어를_포함하지_않는_매장_제외() {
+        assertThat(storeSearchIndex.search("바다 장비", null)).isEmpty();
+    }
+
+    @Test
+    void 매장_삭제_후_검색() {
+        storeSearchIndex.remove(2L);
+
+        assertThat(storeSearchIndex.search("바다", null)).isEmpty();
+        assertThat(storeSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 다른_인스턴스_변경_주기적_반영() {
+        given(storeRepositorySupport.getStoreListForIndex(isNull(), anyInt())).willReturn(new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }});
+
+        storeSearchIndex.refresh();
+
+        // DB 에 없는 매장은 제거
+        assertThat(storeSearchIndex.search("캠핑", null)).containsExactly(1L);
+        assertThat(storeSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 재적재_조회_중_변경된_매장_유지() {
+        // DB 조회 중 이 인스턴스에서 매장 4 등록, 매장 2 삭제 (조회 결과는 변경 이전 상태)
+        given(storeRepositorySupport.getStoreListForIndex(isNull(), anyInt())).willAnswer(invocation -> {
+            storeSearchIndex.put(4L, StoreType.CAMP_GROUND, "별빛 캠핑장", "", new ArrayList<>());
+            storeSearchIndex.remove(2L);
+            return new ArrayList<>(){{
+                add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+                add(initStoreListDTO(2L, new String[]{}));
+            }};
+        });
+
+        storeSearchIndex.refresh();
+
+        assertThat(storeSearchIndex.search("별빛", null)).containsExactly(4L);
+        assertThat(storeSearchIndex.search("하늘", null)).containsExactly(1L);
+        assertThat(storeSearchIndex.size()).isEqualTo(2);
+    }
+
+}
@@ -1,36 +1,40 @@
 package com.ss.camper.store.application;
 
+import com.ss.camper.common.exception.NotValidCursorException;
+import com.ss.camper.common.payload.CursorDTO;
+import com.ss.camper.common.payload.CursorPagingRequest;
 import com.ss.camper.common.payload.PageDTO;
 import com.ss.camper.common.payload.PagingRequest;
+import com.ss.camper.store.application.dto.NearbyStoreDTO;
 import com.ss.camper.store.application.dto.StoreDTO;
 import com.ss.camper.store.application.dto.StoreListDTO;
+import com.ss.camper.store.application.dto.StoreTagDTO;
 import com.ss.camper.store.domain.*;
+import com.ss.camper.store.application.exception.AlreadyUsedStoreTagException;
 import com.ss.camper.store.application.exception.NotFoundStoreException;
 import com.ss.camper.store.domain.StoreRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static com.ss.camper.store.StoreMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StoreServiceTest {
 
-    @Spy
-    private ModelMapper modelMapper;
-
     @Mock
     private StoreRepository storeRepository;
 
@@ -38,7 +42,31 @@ class StoreServiceTest {
     private StoreTagRepository storeTagRepository;
 
     @Mock
-    private StoreRepositorySupport storeRepositorySupport;
+    private StoreListViewRepository storeListViewRepository;
+
+    @Mock
+    private StoreListViewRepositorySupport storeListViewRepositorySupport;
+
+    @Mock
+    private StoreTagRegistrar storeTagRegistrar;
+
+    @Mock
+    private StoreTagDictionary storeTagDictionary;
+
+    @Mock
+    private StoreLocationIndex storeLocationIndex;
+
+    @Mock
+    private StoreSearchIndex storeSearchIndex;
+
+    @Mock
+    private StoreOpeningIndex storeOpeningIndex;
+
+    @Mock
+    private StoreCounter storeCounter;
+
+    @Mock
+    private StoreVersionTable storeVersionTable;
 
     @InjectMocks
     private StoreService storeService;
@@ -53,8 +81,15 @@ class StoreServiceTest {
         final StoreTag storeTag1 = initStoreTag(1L, TAG_TITLE1);
         final StoreTag storeTag2 = initStoreTag(2L, TAG_TITLE2);
         final StoreTag storeTag3 = initStoreTag(3L, TAG_TITLE3);
-        given(storeTagRepository.findByStoreTypeAndTitle(any(StoreType.class), anyString())).willReturn(Optional.empty());
-        given(storeTagRepository.save(any(StoreTag.class))).willReturn(storeTag1, storeTag2, storeTag3);
+        given(storeTagRegistrar.registerAll(any(StoreType.class), anyCollection())).willReturn(new ArrayList<>(){{
+            add(storeTag1);
+            add(storeTag2);
+            add(storeTag3);
+        }});
+        given(storeTagRepository.getOne(anyLong())).willAnswer(invocation -> {
+            final long storeTagId = invocation.getArgument(0);
+            return storeTagId == 1L ? storeTag1 : storeTagId == 2L ? storeTag2 : storeTag3;
+        });
 
         final StoreDTO storeDTO = initStoreDTO(null, new HashSet<>(){{
             add(initStoreTagDTO(null, TAG_TITLE1));
@@ -78,6 +113,101 @@ class StoreServiceTest {
         assertThat(result.getTags().size()).isEqualTo(storeDTO.getTags().size());
     }
 
+    @Test
+    void 태그_사전에_있는_태그로_매장_등록() {
+        final long userId = 1;
+        final long storeId = 2;
+        final Store store = initStore(userId, storeId, null);
+        given(storeRepository.save(any(Store.class))).willReturn(store);
+
+        // 태그 참조(프록시)는 태그 명을 읽으면 조회가 발생하므로 mock 으로 확인
+        final StoreTag storeTag1 = mock(StoreTag.class);
+        final StoreTag storeTag2 = mock(StoreTag.class);
+        given(storeTagDictionary.findId(any(StoreType.class), eq(TAG_TITLE1))).willReturn(Optional.of(1L));
+        given(storeTagDictionary.findId(any(StoreType.class), eq(TAG_TITLE2))).willReturn(Optional.of(2L));
+        given(storeTagRepository.getOne(1L)).willReturn(storeTag1);
+        given(storeTagRepository.getOne(2L)).willReturn(storeTag2);
+
+        final StoreDTO storeDTO = initStoreDTO(null, new HashSet<>(){{
+            add(initStoreTagDTO(null, TAG_TITLE1));
+            add(initStoreTagDTO(null, TAG_TITLE2));
+        }});
+        final StoreDTO result = storeService.registerStore(userId, storeDTO);
+
+        assertThat(result.getTags().size()).isEqualTo(storeDTO.getTags().size());
+        assertThat(result.getTags()).extracting(StoreTagDTO::getTitle).containsExactlyInAnyOrder(TAG_TITLE1, TAG_TITLE2);
+        verify(storeTag1, never()).getTitle();
+        verify(storeTag2, never()).getTitle();
+        verify(storeTagRegistrar, never()).registerAll(any(StoreType.class), anyCollection());
+    }
+
+    @Test
+    void 다른_매장_유형에서_사용_중인_태그로_매장_등록() {
+        final long userId = 1;
+        final long storeId = 2;
+        final Store store = initStore(userId, storeId, null);
+        given(storeRepository.save(any(Store.class))).willReturn(store);
+
+        final StoreTag storeTag1 = initStoreTag(1L, TAG_TITLE1);
+        final StoreTag storeTag2 = StoreTag.builder().id(2L).storeType(StoreType.CAMP_SUPPLY).title(TAG_TITLE2).build();
+        given(storeTagRegistrar.registerAll(any(StoreType.class), anyCollection())).willReturn(new ArrayList<>(){{
+            add(storeTag1);
+            add(storeTag2);
+        }});
+
+        final StoreDTO storeDTO = initStoreDTO(null, new HashSet<>(){{
+            add(initStoreTagDTO(null, TAG_TITLE1));
+            add(initStoreTagDTO(null, TAG_TITLE2));
+        }});
+        assertThrows(AlreadyUsedStoreTagException.class, () -> storeService.registerStore(userId, storeDTO));
+    }
+
+    @Test
+    void 조회되지_않은_신규_태그_재등록() {
+        final long userId = 1;
+        final long storeId = 2;
+        final Store store = initStore(userId, storeId, null);
+        given(storeRepository.save(any(Store.class))).willReturn(store);
+
+        final StoreTag storeTag1 = initStoreTag(1L, TAG_TITLE1);
+        final StoreTag storeTag2 = initStoreTag(2L, TAG_TITLE2);
+        given(storeTagRegistrar.registerAll(any(StoreType.class), anyCollection()))
+            .willReturn(new ArrayList<>(){{ add(storeTag1); }})
+            .willReturn(new ArrayList<>(){{ add(storeTag2); }});
+        given(storeTagRepository.getOne(anyLong())).willAnswer(invocation -> (long) invocation.getArgument(0) == 1L ? storeTag1 : storeTag2);
+
+        final StoreDTO storeDTO = initStoreDTO(null, new HashSet<>(){{
+            add(initStoreTagDTO(null, TAG_TITLE1));
+            add(initStoreTagDTO(null, TAG_TITLE2));
+        }});
+        final StoreDTO result = storeService.registerStore(userId, storeDTO);
+
+        assertThat(result.getTags().size()).isEqualTo(storeDTO.getTags().size());
+        verify(storeTagRegistrar).registerAll(any(StoreType.class), eq(new ArrayList<>(){{ add(TAG_TITLE2); }}));
+    }
+
+    @Test
+    void 대소문자만_다른_기존_태그로_매장_등록() {
+        final long userId = 1;
+        final long storeId = 2;
+        final Store store = initStore(userId, storeId, null);
+        given(storeRepository.save(any(Store.class))).willReturn(store);
+
+        // 태그 명 unique 제약은 대소문자/후행 공백을 구분하지 않으므로 등록된 "Camp" 가 조회됨
+        final StoreTag storeTag = initStoreTag(1L, "Camp");
+        given(storeTagRegistrar.registerAll(any(StoreType.class), anyCollection())).willReturn(new ArrayList<>(){{ add(storeTag); }});
+        given(storeTagRepository.getOne(1L)).willReturn(storeTag);
+
+        final StoreDTO storeDTO = initStoreDTO(null, new LinkedHashSet<>(){{
+            add(initStoreTagDTO(null, "camp"));
+            add(initStoreTagDTO(null, "CAMP "));
+        }});
+        final StoreDTO result = storeService.registerStore(userId, storeDTO);
+
+        assertThat(result.getTags()).extracting(StoreTagDTO::getId, StoreTagDTO::getTitle).containsExactly(tuple(1L, "Camp"));
+        verify(storeTagRegistrar).registerAll(any(StoreType.class), anyCollection());
+    }
+
     @Test
     void 매장_정보_수정() {
         final long userId = 1;
@@ -88,8 +218,15 @@ class StoreServiceTest {
         final StoreTag storeTag1 = initStoreTag(1L, TAG_TITLE1);
         final StoreTag storeTag2 = initStoreTag(2L, TAG_TITLE2);
         final StoreTag storeTag3 = initStoreTag(3L, TAG_TITLE3);
-        given(storeTagRepository.findByStoreTypeAndTitle(any(StoreType.class), anyString())).willReturn(Optional.empty());
-        given(storeTagRepository.save(any(StoreTag.class))).willReturn(storeTag1, storeTag2, storeTag3);
+        given(storeTagRegistrar.registerAll(any(StoreType.class), anyCollection())).willReturn(new ArrayList<>(){{
+            add(storeTag1);
+            add(storeTag2);
+            add(storeTag3);
+        }});
+        given(storeTagRepository.getOne(anyLong())).willAnswer(invocation -> {
+            final long storeTagId = invocation.getArgument(0);
+            return storeTagId == 1L ? storeTag1 : storeTagId == 2L ? storeTag2 : storeTag3;
+        });
 
         final StoreDTO storeDTO = initStoreDTO(null, new HashSet<>(){{
             add(initStoreTagDTO(null, TAG_TITLE1));
@@ -192,17 +329,42 @@ class StoreServiceTest {
             add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
             add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
         }};
-        Page<StoreListDTO> storeListPage = new PageImpl<>(storeList);
-        given(storeRepositorySupport.getStoreListByUserId(anyLong(), any(PagingRequest.class))).willReturn(storeListPage);
+        given(storeListViewRepositorySupport.getStoreListByUserId(anyLong(), any(PagingRequest.class))).willReturn(storeList);
+        given(storeCounter.getCountByUserId(anyLong())).willReturn(12L);
 
         // When
         final long userId = 1;
         final int size = 10;
         final int page = 1;
-        final PageDTO<StoreListDTO> result = storeService.getStoreListByUserId(userId, size, page);
+        final PageDTO<StoreListDTO> result = storeService.getStoreListByUserId(userId, size, page, true);
 
         // Then
-        assertThat(result.getContent()).isEqualTo(storeListPage.getContent());
+        assertThat(result.getContent()).isEqualTo(storeList);
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.getNumber()).isEqualTo(page);
+    }
+
+    @Test
+    void 전체_건수_없이_회원_별_매장_목록_조회() {
+        // Given
+        List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        given(storeListViewRepositorySupport.getStoreListByUserId(anyLong(), any(PagingRequest.class))).willReturn(storeList);
+
+        // When
+        final long userId = 1;
+        final int size = 10;
+        final int page = 2;
+        final PageDTO<StoreListDTO> result = storeService.getStoreListByUserId(userId, size, page, false);
+
+        // Then
+        assertThat(result.getContent()).isEqualTo(storeList);
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        assertThat(result.getNumber()).isEqualTo(page);
+        verify(storeCounter, never()).getCountByUserId(anyLong());
     }
 
     @Test
@@ -212,18 +374,141 @@ class StoreServiceTest {
             add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
             add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
         }};
-        Page<StoreListDTO> storeListPage = new PageImpl<>(storeList);
-        given(storeRepositorySupport.getStoreListByType(any(StoreType.class), any(PagingRequest.class))).willReturn(storeListPage);
+        given(storeListViewRepositorySupport.getStoreListByType(any(StoreType.class), any(PagingRequest.class))).willReturn(storeList);
+        given(storeCounter.getCountByType(any(StoreType.class))).willReturn(2L);
 
         // When
         final int size = 10;
         final int page = 1;
-        final PageDTO<StoreListDTO> result = storeService.getStoreListByType(STORE_TYPE, size, page);
+        final PageDTO<StoreListDTO> result = storeService.getStoreListByType(STORE_TYPE, size, page, true);
 
         // Then
-        assertThat(result.getContent()).isEqualTo(storeListPage.getContent());
+        assertThat(result.getContent()).isEqualTo(storeList);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getTotalPages()).isEqualTo(1);
         assertThat(result.getContent().get(0).getStoreType()).isEqualTo(STORE_TYPE);
         assertThat(result.getContent().get(1).getStoreType()).isEqualTo(STORE_TYPE);
     }
 
-}
\ No newline at end of file
+    @Test
+    void 매장_유형_별_매장_목록_커서_조회() {
+        // Given
+        List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(3L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        given(storeListViewRepositorySupport.getStoreCursorListByType(any(StoreType.class), any(CursorPagingRequest.class))).willReturn(storeList);
+
+        // When
+        final int size = 2;
+        final CursorDTO<StoreListDTO> result = storeService.getStoreCursorListByType(STORE_TYPE, size, null);
+
+        // Then
+        assertThat(result.getContent().size()).isEqualTo(size);
+        assertThat(result.getContent().get(0).getId()).isEqualTo(3L);
+        assertThat(result.getContent().get(1).getId()).isEqualTo(2L);
+        assertThat(CursorPagingRequest.decode(result.getNextCursor())).isEqualTo(2L);
+    }
+
+    @Test
+    void 회원_별_매장_목록_마지막_커서_조회() {
+        // Given
+        List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        given(storeListViewRepositorySupport.getStoreCursorListByUserId(anyLong(), any(CursorPagingRequest.class))).willReturn(storeList);
+
+        // When
+        final long userId = 1;
+        final int size = 10;
+        final CursorDTO<StoreListDTO> result = storeService.getStoreCursorListByUserId(userId, size, CursorPagingRequest.encode(2L));
+
+        // Then
+        assertThat(result.getContent().size()).isEqualTo(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 주변_매장_목록_조회() {
+        // Given
+        final LinkedHashMap<Long, Double> nearby = new LinkedHashMap<>(){{
+            put(2L, 0.5);
+            put(1L, 1.2);
+        }};
+        given(storeLocationIndex.search(anyDouble(), anyDouble(), anyDouble(), any(), anyInt())).willReturn(nearby);
+        List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        given(storeListViewRepositorySupport.getStoreListByIds(anyCollection())).willReturn(storeList);
+
+        // When
+        final List<NearbyStoreDTO> result = storeService.getNearbyStoreList(37.5, 127.0, 5, STORE_TYPE, 10);
+
+        // Then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0).getStore().getId()).isEqualTo(2L);
+        assertThat(result.get(0).getDistance()).isEqualTo(0.5);
+        assertThat(result.get(1).getStore().getId()).isEqualTo(1L);
+        assertThat(result.get(1).getDistance()).isEqualTo(1.2);
+    }
+
+    @Test
+    void 매장_검색() {
+        // Given
+        given(storeSearchIndex.search(anyString(), any())).willReturn(new ArrayList<>(){{
+            add(3L);
+            add(1L);
+            add(2L);
+        }});
+        List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        given(storeListViewRepositorySupport.getStoreListByIds(Collections.singletonList(2L))).willReturn(storeList);
+
+        // When
+        final int size = 2;
+        final int page = 2;
+        final PageDTO<StoreListDTO> result = storeService.searchStoreList("캠핑", null, size, page);
+
+        // Then
+        assertThat(result.getContent().size()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getId()).isEqualTo(2L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getTotalPages()).isEqualTo(2);
+        assertThat(result.getNumber()).isEqualTo(page);
+    }
+
+    @Test
+    void 영업_중인_매장_목록_조회() {
+        // Given
+        final LocalDateTime openAt = LocalDateTime.of(2022, 2, 21, 10, 0);
+        given(storeOpeningIndex.search(openAt, STORE_TYPE)).willReturn(new ArrayList<>(){{
+            add(2L);
+            add(1L);
+        }});
+        List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        given(storeListViewRepositorySupport.getStoreListByIds(anyCollection())).willReturn(storeList);
+
+        // When
+        final int size = 10;
+        final int page = 1;
+        final PageDTO<StoreListDTO> result = storeService.getOpenStoreList(openAt, STORE_TYPE, size, page);
+
+        // Then
+        assertThat(result.getContent().size()).isEqualTo(2);
+        assertThat(result.getContent().get(0).getId()).isEqualTo(2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void 유효하지_않은_커서로_매장_목록_조회() {
+        assertThrows(NotValidCursorException.class, () -> storeService.getStoreCursorListByType(STORE_TYPE, 10, "not-valid-cursor"));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreTag;
+import com.ss.camper.store.domain.StoreTagRepository;
+import com.ss.camper.store.domain.StoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+
+import static com.ss.camper.store.StoreMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StoreTagDictionaryTest {
+
+    @Mock
+    private StoreTagRepository storeTagRepository;
+
+    @InjectMocks
+    private StoreTagDictionary storeTagDictionary;
+
+    @BeforeEach
+    void init() {
+        given(storeTagRepository.findAll()).willReturn(new ArrayList<>(){{
+            add(initStoreTag(1L, TAG_TITLE1));
+            add(initStoreTag(2L, TAG_TITLE2));
+        }});
+        storeTagDictionary.load();
+    }
+
+    @Test
+    void 태그_고유번호_조회() {
+        assertThat(storeTagDictionary.findId(STORE_TYPE, TAG_TITLE1)).contains(1L);
+        assertThat(storeTagDictionary.findId(STORE_TYPE, TAG_TITLE3)).isEmpty();
+        assertThat(storeTagDictionary.findId(StoreType.CAMP_SUPPLY, TAG_TITLE1)).isEmpty();
+        assertThat(storeTagDictionary.getHitCount()).isEqualTo(1);
+        assertThat(storeTagDictionary.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 대소문자_후행_공백만_다른_태그_고유번호_조회() {
+        assertThat(storeTagDictionary.findId(STORE_TYPE, TAG_TITLE1.toLowerCase())).contains(1L);
+        assertThat(storeTagDictionary.findId(STORE_TYPE, TAG_TITLE1 + "  ")).contains(1L);
+    }
+
+    @Test
+    void 태그_명_조회() {
+        assertThat(storeTagDictionary.findTitle(2L)).contains(TAG_TITLE2);
+        assertThat(storeTagDictionary.findTitle(3L)).isEmpty();
+    }
+
+    @Test
+    void 신규_태그_등록() {
+        final String title = new String(TAG_TITLE3.toCharArray());
+        storeTagDictionary.put(StoreTag.builder().id(3L).storeType(STORE_TYPE).title(title).build());
+
+        assertThat(storeTagDictionary.findId(STORE_TYPE, TAG_TITLE3)).contains(3L);
+        assertThat(storeTagDictionary.findTitle(3L).get()).isSameAs(TAG_TITLE3);
+        assertThat(storeTagDictionary.size()).isEqualTo(3);
+    }
+
+}
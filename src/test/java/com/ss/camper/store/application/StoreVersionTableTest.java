@@ -0,0 +1,53 @@
+package com.ss.camper.store.application;
+
+import com.ss.camper.store.domain.StoreRepository;
+import com.ss.camper.store.domain.StoreType;
+import com.ss.camper.store.domain.StoreTypeVersionRepositorySupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StoreVersionTableTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreTypeVersionRepositorySupport storeTypeVersionRepositorySupport;
+
+    @InjectMocks
+    private StoreVersionTable storeVersionTable;
+
+    @Test
+    void 매장_ETag_조회() {
+        given(storeRepository.findVerById(1L)).willReturn(Optional.of(3L));
+        given(storeRepository.findVerById(2L)).willReturn(Optional.empty());
+
+        assertThat(storeVersionTable.getStoreETag(1L)).hasValue("\"1-3\"");
+        assertThat(storeVersionTable.getStoreETag(2L)).isEmpty();
+    }
+
+    @Test
+    void 매장_유형_별_목록_ETag_조회() {
+        given(storeTypeVersionRepositorySupport.getVersion(StoreType.CAMP_GROUND)).willReturn(5L);
+
+        assertThat(storeVersionTable.getStoreListETag(StoreType.CAMP_GROUND, 10, 1, true)).isEqualTo("\"CAMP_GROUND-5-10-1-true\"");
+    }
+
+    @Test
+    void 매장_유형_별_변경_횟수_증가() {
+        storeVersionTable.increaseTypeVersion(StoreType.CAMP_SUPPLY);
+
+        verify(storeTypeVersionRepositorySupport).increase(StoreType.CAMP_SUPPLY);
+    }
+
+}
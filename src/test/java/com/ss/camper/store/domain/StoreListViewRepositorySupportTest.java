@@ -0,0 +1,198 @@
+package com.ss.camper.store.domain;
+
+import com.ss.camper.common.payload.CursorPagingRequest;
+import com.ss.camper.common.payload.PagingRequest;
+import com.ss.camper.store.application.dto.StoreListDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.ss.camper.store.StoreMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class StoreListViewRepositorySupportTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreTagRepository storeTagRepository;
+
+    @Autowired
+    private StoreListViewRepository storeListViewRepository;
+
+    @Autowired
+    private StoreListViewRepositorySupport storeListViewRepositorySupport;
+
+    @AfterEach
+    void init() {
+        storeListViewRepository.deleteAll();
+        storeRepository.deleteAll();
+        storeTagRepository.deleteAll();
+    }
+
+    @Test
+    void 회원_별_매장_목록_조회() {
+        final long userId = 1;
+        Store savedStore1 = saveStore(initStore(userId, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE1));
+            add(initStoreTag(null, TAG_TITLE2));
+        }}));
+        Store savedStore2 = saveStore(initStore(userId, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE3));
+            add(initStoreTag(null, TAG_TITLE4));
+        }}));
+
+        final int size = 10;
+        final int page = 1;
+        PagingRequest pagingRequest = new PagingRequest(size, page);
+        List<StoreListDTO> result = storeListViewRepositorySupport.getStoreListByUserId(userId, pagingRequest);
+
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0).getStoreName()).isEqualTo(savedStore2.getStoreName());
+        assertThat(result.get(0).getStoreType()).isEqualTo(savedStore2.getStoreType());
+        assertThat(result.get(0).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE3); add(TAG_TITLE4); }});
+        assertThat(result.get(1).getStoreName()).isEqualTo(savedStore1.getStoreName());
+        assertThat(result.get(1).getStoreType()).isEqualTo(savedStore1.getStoreType());
+        assertThat(result.get(1).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE1); add(TAG_TITLE2); }});
+    }
+
+    @Test
+    @Rollback
+    void 매장_유형_별_매장_목록_조회() {
+        // Given
+        Store savedStore1 = saveStore(initStore(1L, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE1));
+            add(initStoreTag(null, TAG_TITLE2));
+        }}));
+        Store savedStore2 = saveStore(initStore(1L, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE3));
+            add(initStoreTag(null, TAG_TITLE4));
+        }}));
+
+        // When
+        final int size = 10;
+        final int page = 1;
+        PagingRequest pagingRequest = new PagingRequest(size, page);
+        List<StoreListDTO> result = storeListViewRepositorySupport.getStoreListByType(STORE_TYPE, pagingRequest);
+
+        // Then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0).getStoreName()).isEqualTo(savedStore2.getStoreName());
+        assertThat(result.get(0).getStoreType()).isEqualTo(STORE_TYPE);
+        assertThat(result.get(0).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE3); add(TAG_TITLE4); }});
+        assertThat(result.get(1).getStoreName()).isEqualTo(savedStore1.getStoreName());
+        assertThat(result.get(1).getStoreType()).isEqualTo(STORE_TYPE);
+        assertThat(result.get(1).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE1); add(TAG_TITLE2); }});
+    }
+
+    @Test
+    void 매장_유형_별_매장_목록_커서_조회() {
+        // Given
+        Store savedStore1 = saveStore(initStore(1L, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE1));
+        }}));
+        Store savedStore2 = saveStore(initStore(1L, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE2));
+        }}));
+        Store savedStore3 = saveStore(initStore(1L, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE3));
+        }}));
+
+        // When
+        final int size = 1;
+        List<StoreListDTO> firstResult = storeListViewRepositorySupport.getStoreCursorListByType(STORE_TYPE, new CursorPagingRequest(size, null));
+        final String after = CursorPagingRequest.encode(savedStore3.getId());
+        List<StoreListDTO> nextResult = storeListViewRepositorySupport.getStoreCursorListByType(STORE_TYPE, new CursorPagingRequest(size, after));
+
+        // Then
+        assertThat(firstResult.size()).isEqualTo(size + 1);
+        assertThat(firstResult.get(0).getId()).isEqualTo(savedStore3.getId());
+        assertThat(firstResult.get(0).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE3); }});
+        assertThat(nextResult.size()).isEqualTo(size + 1);
+        assertThat(nextResult.get(0).getId()).isEqualTo(savedStore2.getId());
+        assertThat(nextResult.get(1).getId()).isEqualTo(savedStore1.getId());
+    }
+
+    @Test
+    void 회원_별_매장_목록_커서_조회() {
+        // Given
+        final long userId = 1;
+        Store savedStore1 = saveStore(initStore(userId, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE1));
+        }}));
+        Store savedStore2 = saveStore(initStore(userId, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE2));
+        }}));
+
+        // When
+        final String after = CursorPagingRequest.encode(savedStore2.getId());
+        List<StoreListDTO> result = storeListViewRepositorySupport.getStoreCursorListByUserId(userId, new CursorPagingRequest(10, after));
+
+        // Then
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.get(0).getId()).isEqualTo(savedStore1.getId());
+        assertThat(result.get(0).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE1); }});
+    }
+
+    @Test
+    void 고유번호_목록으로_매장_목록_조회() {
+        // Given
+        final long userId = 1;
+        Store savedStore1 = saveStore(initStore(userId, null, new HashSet<>(){{
+            add(initStoreTag(null, TAG_TITLE1));
+        }}));
+        Store savedStore2 = saveStore(initStore(userId, null, null));
+
+        // When
+        List<StoreListDTO> result = storeListViewRepositorySupport.getStoreListByIds(new ArrayList<>(){{
+            add(savedStore2.getId());
+            add(savedStore1.getId());
+        }});
+
+        // Then
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0).getId()).isEqualTo(savedStore2.getId());
+        assertThat(result.get(0).getTags()).isEmpty();
+        assertThat(result.get(1).getId()).isEqualTo(savedStore1.getId());
+        assertThat(result.get(1).getTags()).isEqualTo(new HashSet<>(){{ add(TAG_TITLE1); }});
+    }
+
+    @Test
+    void 삭제된_매장_목록_제외() {
+        // Given
+        final long userId = 1;
+        Store savedStore = saveStore(initStore(userId, null, null));
+
+        // When
+        storeListViewRepository.deleteByStoreId(savedStore.getId());
+        List<StoreListDTO> result = storeListViewRepositorySupport.getStoreListByUserId(userId, new PagingRequest(10, 1));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    private Store saveStore(Store store) {
+        final Store savedStore = storeRepository.save(store);
+        final Set<String> tags = new LinkedHashSet<>();
+        if (savedStore.getTags() != null) {
+            for (StoreTag tag : savedStore.getTags()) {
+                tags.add(tag.getTitle());
+            }
+        }
+        storeListViewRepository.save(StoreListView.of(savedStore, tags));
+        return savedStore;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.ss.camper.store.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.HashSet;
+
+import static com.ss.camper.store.StoreMock.OPENING_DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreOpeningDaysConverterTest {
+
+    private final StoreOpeningDaysConverter converter = new StoreOpeningDaysConverter();
+
+    @Test
+    void 영업_요일_비트마스크_변환() {
+        assertThat(converter.convertToDatabaseColumn(OPENING_DAYS)).isEqualTo((byte) (1 | 8));
+        assertThat(converter.convertToDatabaseColumn(EnumSet.allOf(DayOfWeek.class))).isEqualTo((byte) 127);
+        assertThat(converter.convertToDatabaseColumn(new HashSet<>())).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    void 비트마스크_영업_요일_변환() {
+        assertThat(converter.convertToEntityAttribute((byte) (1 | 8))).isEqualTo(OPENING_DAYS);
+        assertThat(converter.convertToEntityAttribute((byte) 64)).containsExactly(DayOfWeek.SUNDAY);
+        assertThat(converter.convertToEntityAttribute((byte) 0)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.ss.camper.store.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ss.camper.store.StoreMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class StoreTagRepositorySupportTest {
+
+    @Autowired
+    private StoreTagRepository storeTagRepository;
+
+    @Autowired
+    private StoreTagRepositorySupport storeTagRepositorySupport;
+
+    @AfterEach
+    void init() {
+        storeTagRepository.deleteAll();
+    }
+
+    @Test
+    void 태그_일괄_등록() {
+        final List<String> titles = new ArrayList<>(){{
+            add(TAG_TITLE1);
+            add(TAG_TITLE2);
+            add(TAG_TITLE3);
+        }};
+        storeTagRepositorySupport.insertIgnoreAll(STORE_TYPE, titles);
+
+        final List<StoreTag> result = storeTagRepository.findByStoreTypeAndTitleIn(STORE_TYPE, titles);
+
+        assertThat(result.size()).isEqualTo(titles.size());
+        assertThat(result).extracting(StoreTag::getTitle).containsExactlyInAnyOrderElementsOf(titles);
+    }
+
+    @Test
+    void 이미_등록된_태그_일괄_등록() {
+        final StoreTag savedStoreTag = storeTagRepository.save(initStoreTag(null, TAG_TITLE1));
+
+        final List<String> titles = new ArrayList<>(){{
+            add(TAG_TITLE1);
+            add(TAG_TITLE2);
+        }};
+        storeTagRepositorySupport.insertIgnoreAll(STORE_TYPE, titles);
+
+        final List<StoreTag> result = storeTagRepository.findByStoreTypeAndTitleIn(STORE_TYPE, titles);
+
+        assertThat(result.size()).isEqualTo(titles.size());
+        assertThat(result).extracting(StoreTag::getId).contains(savedStoreTag.getId());
+    }
+
+}
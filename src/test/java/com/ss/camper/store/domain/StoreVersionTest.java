@@ -0,0 +1,110 @@
+package com.ss.camper.store.domain;
+
+import com.ss.camper.store.application.StoreService;
+import com.ss.camper.store.application.StoreVersionTable;
+import com.ss.camper.uploadFile.dto.UploadFileDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+
+import static com.ss.camper.store.StoreMock.initStore;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 ETag 가 DB 버전 기준으로 바뀌는지 확인
+ * 매장 정보 조회 결과가 바뀌는 변경(프로필 이미지 포함)은 다른 인스턴스에서도 이전 ETag 로 304 응답하지 않아야 함
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class StoreVersionTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private StoreVersionTable storeVersionTable;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void init() {
+        storeRepository.deleteAll();
+    }
+
+    @Test
+    void 프로필_이미지_변경_시_매장_ETag_변경() {
+        // Given
+        final long userId = 1;
+        final Store savedStore = storeRepository.save(initStore(userId, null, null));
+        final String before = storeService.getStoreETag(savedStore.getId()).orElseThrow();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> storeRepository.findByUserIdAndId(userId, savedStore.getId()).orElseThrow()
+            .updateProfileImages(new ArrayList<>(){{
+                add(UploadFileDTO.builder()
+                    .originName("profileImage1.jpg")
+                    .uploadName("upload_profileImage1.jpg")
+                    .path("/upload/upload_profileImage1.jpg")
+                    .fullPath("https://s3/upload/upload_profileImage1.jpg")
+                    .ext("JPG")
+                    .size(124215)
+                    .build());
+            }}));
+
+        // Then
+        assertThat(storeService.getStoreETag(savedStore.getId())).hasValueSatisfying(eTag -> assertThat(eTag).isNotEqualTo(before));
+    }
+
+    @Test
+    void 삭제된_매장_ETag_조회() {
+        // Given
+        final long userId = 1;
+        final Store savedStore = storeRepository.save(initStore(userId, null, null));
+
+        // When
+        storeService.deleteStore(userId, savedStore.getId());
+
+        // Then
+        assertThat(storeService.getStoreETag(savedStore.getId())).isEmpty();
+    }
+
+    @Test
+    void 매장_유형_변경_시_목록_ETag_변경() {
+        // Given
+        final String before = storeService.getStoreListETag(StoreType.CAMP_GROUND, 10, 1, true);
+        final String otherType = storeService.getStoreListETag(StoreType.CAMP_SUPPLY, 10, 1, true);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> storeVersionTable.increaseTypeVersion(StoreType.CAMP_SUPPLY));
+
+        // Then
+        assertThat(storeService.getStoreListETag(StoreType.CAMP_GROUND, 10, 1, true)).isEqualTo(before);
+        assertThat(storeService.getStoreListETag(StoreType.CAMP_GROUND, 10, 2, true)).isNotEqualTo(before);
+        assertThat(storeService.getStoreListETag(StoreType.CAMP_SUPPLY, 10, 1, true)).isNotEqualTo(otherType);
+    }
+
+    @Test
+    void 롤백된_매장_변경은_목록_ETag_유지() {
+        // Given
+        final String before = storeService.getStoreListETag(StoreType.CAMP_GROUND, 10, 1, true);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            storeVersionTable.increaseTypeVersion(StoreType.CAMP_GROUND);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(storeService.getStoreListETag(StoreType.CAMP_GROUND, 10, 1, true)).isEqualTo(before);
+    }
+
+}
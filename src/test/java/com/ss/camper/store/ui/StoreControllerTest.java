@@ -2,10 +2,13 @@ package com.ss.camper.store.ui;
 
 import com.ss.camper.common.ControllerTest;
 import com.ss.camper.common.WithMockCustomUser;
+import com.ss.camper.common.payload.CursorDTO;
+import com.ss.camper.common.payload.CursorPagingRequest;
 import com.ss.camper.common.payload.PageDTO;
 import com.ss.camper.common.util.JWTUtil;
 import com.ss.camper.store.application.StoreProfileImageService;
 import com.ss.camper.store.application.StoreService;
+import com.ss.camper.store.application.dto.NearbyStoreDTO;
 import com.ss.camper.store.application.dto.StoreDTO;
 import com.ss.camper.store.application.dto.StoreListDTO;
 import com.ss.camper.store.domain.StoreType;
@@ -16,6 +19,7 @@ import com.ss.camper.uploadFile.dto.UploadFileDTO;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
@@ -25,17 +29,24 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import static com.ss.camper.common.ApiDocumentAttributes.*;
 import static com.ss.camper.common.ApiDocumentUtil.*;
 import static com.ss.camper.store.StoreMock.*;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(StoreController.class)
@@ -106,7 +117,7 @@ class StoreControllerTest extends ControllerTest {
                     fieldWithPath("openingDays[]").type(JsonFieldType.ARRAY).optional().description("영업일").attributes(openingDaysAttribute()),
                     fieldWithPath("openTime").type(JsonFieldType.STRING).optional().description("영업 시작시간"),
                     fieldWithPath("closeTime").type(JsonFieldType.STRING).optional().description("영업 종료시간"),
-                    fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                    fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그 (쉼표 불가, 최대 100자)")
                 ),
                 responseFields(
                     defaultResponseFields()
@@ -114,6 +125,64 @@ class StoreControllerTest extends ControllerTest {
             ));
     }
 
+    @Test
+    @WithMockCustomUser
+    void 쉼표가_포함된_태그로_매장_등록() throws Exception {
+        final RegisterStorePayload.Request request = RegisterStorePayload.Request.builder()
+            .storeStatus(STORE_STATUS)
+            .storeType(STORE_TYPE)
+            .storeName(STORE_NAME)
+            .zipCode(ADDRESS.getZipCode())
+            .defaultAddress(ADDRESS.getDefaultAddress())
+            .latitude(ADDRESS.getLatitude())
+            .longitude(ADDRESS.getLongitude())
+            .tel(TEL)
+            .tags(new HashSet<>(){{
+                add("가족,캠핑");
+            }})
+            .build();
+
+        final ResultActions result = mockMvc.perform(
+            post("/store")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .accept(MediaType.APPLICATION_JSON)
+                .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        result.andExpect(status().isBadRequest());
+        verify(storeService, never()).registerStore(anyLong(), any(StoreDTO.class));
+    }
+
+    @Test
+    @WithMockCustomUser
+    void 태그_명_최대_길이_초과로_매장_등록() throws Exception {
+        final RegisterStorePayload.Request request = RegisterStorePayload.Request.builder()
+            .storeStatus(STORE_STATUS)
+            .storeType(STORE_TYPE)
+            .storeName(STORE_NAME)
+            .zipCode(ADDRESS.getZipCode())
+            .defaultAddress(ADDRESS.getDefaultAddress())
+            .latitude(ADDRESS.getLatitude())
+            .longitude(ADDRESS.getLongitude())
+            .tel(TEL)
+            .tags(new HashSet<>(){{
+                add("가".repeat(101));
+            }})
+            .build();
+
+        final ResultActions result = mockMvc.perform(
+            post("/store")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .accept(MediaType.APPLICATION_JSON)
+                .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        result.andExpect(status().isBadRequest());
+        verify(storeService, never()).registerStore(anyLong(), any(StoreDTO.class));
+    }
+
     @Test
     @WithMockCustomUser
     void 매장_정보_수정() throws Exception {
@@ -173,7 +242,7 @@ class StoreControllerTest extends ControllerTest {
                                 fieldWithPath("openingDays[]").type(JsonFieldType.ARRAY).optional().description("영업일").attributes(openingDaysAttribute()),
                                 fieldWithPath("openTime").type(JsonFieldType.STRING).optional().description("영업 시작시간"),
                                 fieldWithPath("closeTime").type(JsonFieldType.STRING).optional().description("영업 종료시간"),
-                                fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                                fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그 (쉼표 불가, 최대 100자)")
                         ),
                         responseFields(
                                 defaultResponseFields()
@@ -272,6 +341,55 @@ class StoreControllerTest extends ControllerTest {
                 ));
     }
 
+    @Test
+    void 변경되지_않은_매장_정보_조회() throws Exception {
+        final String eTag = "\"1-3\"";
+        given(storeService.getStoreETag(anyLong())).willReturn(Optional.of(eTag));
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/{storeId}", 1)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+        );
+
+        result.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andDo(document("store/info-not-modified",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        pathParameters(
+                                parameterWithName("storeId").description("매장 고유번호")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("매장 ETag")
+                        )
+                ));
+        verify(storeService, never()).getStoreInfo(anyLong());
+    }
+
+    @Test
+    void 프로필_이미지_변경_후_매장_정보_조회() throws Exception {
+        // 프로필 이미지 변경으로 매장 버전이 3 -> 4
+        final StoreDTO storeDTO = initStoreDTO(1L, null);
+        given(storeService.getStoreETag(anyLong())).willReturn(Optional.of("\"1-4\""));
+        given(storeService.getStoreInfo(anyLong())).willReturn(storeDTO);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/{storeId}", 1)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\"")
+        );
+
+        result.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+        verify(storeService).getStoreInfo(1L);
+    }
+
     @Test
     void 회원_별_매장_목록_조회() throws Exception {
         final int size = 10;
@@ -281,7 +399,7 @@ class StoreControllerTest extends ControllerTest {
             add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
         }};
         PageDTO<StoreListDTO> storeListPage = new PageDTO<>(storeList, storeList.size(), size, page, 1);
-        given(storeService.getStoreListByUserId(anyLong(), anyInt(), anyInt())).willReturn(storeListPage);
+        given(storeService.getStoreListByUserId(anyLong(), anyInt(), anyInt(), anyBoolean())).willReturn(storeListPage);
 
         final long userId = 1;
         final ResultActions result = mockMvc.perform(
@@ -292,7 +410,10 @@ class StoreControllerTest extends ControllerTest {
                         .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
         );
 
+        // 태그는 태그 명 배열로 응답 (문자열 결합 형식 아님)
         result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content[0].tags").isArray())
+                .andExpect(jsonPath("$.result.content[0].tags", containsInAnyOrder(TAG_TITLE1, TAG_TITLE2)))
                 .andDo(document("store/list-user",
                         getDocumentRequest(),
                         getDocumentResponse(),
@@ -301,7 +422,8 @@ class StoreControllerTest extends ControllerTest {
                         ),
                         requestParameters(
                                 parameterWithName("size").description("한 페이지에 보일 데이터 수"),
-                                parameterWithName("page").description("조회할 페이지")
+                                parameterWithName("page").description("조회할 페이지"),
+                                parameterWithName("withTotal").optional().description("전체 건수/페이지 포함 여부 (기본 true, false 면 count, totalPage 생략)")
                         ),
                         responseFields(
                                 pagingResponseFields(
@@ -334,7 +456,7 @@ class StoreControllerTest extends ControllerTest {
             add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
         }};
         PageDTO<StoreListDTO> storeListPage = new PageDTO<>(storeList, storeList.size(), size, page, 1);
-        given(storeService.getStoreListByType(any(StoreType.class), anyInt(), anyInt())).willReturn(storeListPage);
+        given(storeService.getStoreListByType(any(StoreType.class), anyInt(), anyInt(), anyBoolean())).willReturn(storeListPage);
 
         final ResultActions result = mockMvc.perform(
                 get("/store/type/{type}", StoreType.CAMP_GROUND)
@@ -353,6 +475,239 @@ class StoreControllerTest extends ControllerTest {
                                 parameterWithName("type").description("매장 유형").attributes(storeTypeAttribute())
                         ),
                         requestParameters(
+                                parameterWithName("size").description("한 페이지에 보일 데이터 수"),
+                                parameterWithName("page").description("조회할 페이지"),
+                                parameterWithName("withTotal").optional().description("전체 건수/페이지 포함 여부 (기본 true, false 면 count, totalPage 생략)")
+                        ),
+                        responseFields(
+                                pagingResponseFields(
+                                        fieldWithPath("id").type(JsonFieldType.NUMBER).description("매장 고유번호"),
+                                        fieldWithPath("storeType").type(JsonFieldType.STRING).description("매장 유형").attributes(storeTypeAttribute()),
+                                        fieldWithPath("storeStatus").type(JsonFieldType.STRING).description("매장 상태").attributes(storeStatusAttribute()),
+                                        fieldWithPath("storeName").type(JsonFieldType.STRING).description("매장 명"),
+                                        fieldWithPath("address").type(JsonFieldType.OBJECT).description("매장 주소 정보"),
+                                        fieldWithPath("address.zipCode").type(JsonFieldType.STRING).description("우편 번호"),
+                                        fieldWithPath("address.defaultAddress").type(JsonFieldType.STRING).description("기본 주소"),
+                                        fieldWithPath("address.detailAddress").type(JsonFieldType.STRING).optional().description("상세 주소"),
+                                        fieldWithPath("address.latitude").type(JsonFieldType.NUMBER).description("위도"),
+                                        fieldWithPath("address.longitude").type(JsonFieldType.NUMBER).description("경도"),
+                                        fieldWithPath("tel").type(JsonFieldType.STRING).description("연락처"),
+                                        fieldWithPath("homepageUrl").type(JsonFieldType.STRING).optional().description("홈페이지 URL"),
+                                        fieldWithPath("reservationUrl").type(JsonFieldType.STRING).optional().description("예약 사이트 URL"),
+                                        fieldWithPath("introduction").type(JsonFieldType.STRING).optional().description("매장 소개"),
+                                        fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    void 변경되지_않은_매장_유형_별_매장_목록_조회() throws Exception {
+        final String eTag = "\"CAMP_GROUND-0-10-1-true\"";
+        given(storeService.getStoreListETag(any(StoreType.class), anyInt(), anyInt(), anyBoolean())).willReturn(eTag);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/type/{type}", StoreType.CAMP_GROUND)
+                        .param("size", "10")
+                        .param("page", "1")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+        );
+
+        result.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(storeService, never()).getStoreListByType(any(StoreType.class), anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void 회원_별_매장_목록_커서_조회() throws Exception {
+        final long userId = 1;
+        final int size = 2;
+        final String after = CursorPagingRequest.encode(3L);
+        final List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        CursorDTO<StoreListDTO> storeListCursor = new CursorDTO<>(storeList, size, CursorPagingRequest.encode(1L));
+        given(storeService.getStoreCursorListByUserId(anyLong(), anyInt(), any())).willReturn(storeListCursor);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/user/{userId}/cursor", userId)
+                        .param("size", String.valueOf(size))
+                        .param("after", after)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andDo(document("store/list-user-cursor",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        pathParameters(
+                                parameterWithName("userId").description("회원 고유번호")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("한 페이지에 보일 데이터 수"),
+                                parameterWithName("after").optional().description("이전 응답의 다음 페이지 커서 (첫 페이지 조회 시 생략)")
+                        ),
+                        responseFields(
+                                cursorResponseFields(
+                                        fieldWithPath("id").type(JsonFieldType.NUMBER).description("매장 고유번호"),
+                                        fieldWithPath("storeType").type(JsonFieldType.STRING).description("매장 유형").attributes(storeTypeAttribute()),
+                                        fieldWithPath("storeStatus").type(JsonFieldType.STRING).description("매장 상태").attributes(storeStatusAttribute()),
+                                        fieldWithPath("storeName").type(JsonFieldType.STRING).description("매장 명"),
+                                        fieldWithPath("address").type(JsonFieldType.OBJECT).description("매장 주소 정보"),
+                                        fieldWithPath("address.zipCode").type(JsonFieldType.STRING).description("우편 번호"),
+                                        fieldWithPath("address.defaultAddress").type(JsonFieldType.STRING).description("기본 주소"),
+                                        fieldWithPath("address.detailAddress").type(JsonFieldType.STRING).optional().description("상세 주소"),
+                                        fieldWithPath("address.latitude").type(JsonFieldType.NUMBER).description("위도"),
+                                        fieldWithPath("address.longitude").type(JsonFieldType.NUMBER).description("경도"),
+                                        fieldWithPath("tel").type(JsonFieldType.STRING).description("연락처"),
+                                        fieldWithPath("homepageUrl").type(JsonFieldType.STRING).optional().description("홈페이지 URL"),
+                                        fieldWithPath("reservationUrl").type(JsonFieldType.STRING).optional().description("예약 사이트 URL"),
+                                        fieldWithPath("introduction").type(JsonFieldType.STRING).optional().description("매장 소개"),
+                                        fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    void 매장_유형_별_매장_목록_커서_조회() throws Exception {
+        final int size = 2;
+        final List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        CursorDTO<StoreListDTO> storeListCursor = new CursorDTO<>(storeList, size, CursorPagingRequest.encode(1L));
+        given(storeService.getStoreCursorListByType(any(StoreType.class), anyInt(), any())).willReturn(storeListCursor);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/type/{type}/cursor", StoreType.CAMP_GROUND)
+                        .param("size", String.valueOf(size))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andDo(document("store/list-type-cursor",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        pathParameters(
+                                parameterWithName("type").description("매장 유형").attributes(storeTypeAttribute())
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("한 페이지에 보일 데이터 수"),
+                                parameterWithName("after").optional().description("이전 응답의 다음 페이지 커서 (첫 페이지 조회 시 생략)")
+                        ),
+                        responseFields(
+                                cursorResponseFields(
+                                        fieldWithPath("id").type(JsonFieldType.NUMBER).description("매장 고유번호"),
+                                        fieldWithPath("storeType").type(JsonFieldType.STRING).description("매장 유형").attributes(storeTypeAttribute()),
+                                        fieldWithPath("storeStatus").type(JsonFieldType.STRING).description("매장 상태").attributes(storeStatusAttribute()),
+                                        fieldWithPath("storeName").type(JsonFieldType.STRING).description("매장 명"),
+                                        fieldWithPath("address").type(JsonFieldType.OBJECT).description("매장 주소 정보"),
+                                        fieldWithPath("address.zipCode").type(JsonFieldType.STRING).description("우편 번호"),
+                                        fieldWithPath("address.defaultAddress").type(JsonFieldType.STRING).description("기본 주소"),
+                                        fieldWithPath("address.detailAddress").type(JsonFieldType.STRING).optional().description("상세 주소"),
+                                        fieldWithPath("address.latitude").type(JsonFieldType.NUMBER).description("위도"),
+                                        fieldWithPath("address.longitude").type(JsonFieldType.NUMBER).description("경도"),
+                                        fieldWithPath("tel").type(JsonFieldType.STRING).description("연락처"),
+                                        fieldWithPath("homepageUrl").type(JsonFieldType.STRING).optional().description("홈페이지 URL"),
+                                        fieldWithPath("reservationUrl").type(JsonFieldType.STRING).optional().description("예약 사이트 URL"),
+                                        fieldWithPath("introduction").type(JsonFieldType.STRING).optional().description("매장 소개"),
+                                        fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    void 매장_검색() throws Exception {
+        final int size = 10;
+        final int page = 1;
+        final List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        PageDTO<StoreListDTO> storeListPage = new PageDTO<>(storeList, storeList.size(), size, page, 1);
+        given(storeService.searchStoreList(anyString(), any(), anyInt(), anyInt())).willReturn(storeListPage);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/search")
+                        .param("q", "하늘 캠핑")
+                        .param("type", String.valueOf(StoreType.CAMP_GROUND))
+                        .param("size", String.valueOf(size))
+                        .param("page", String.valueOf(page))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andDo(document("store/search",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("q").description("검색어 (매장 명, 매장 소개, 태그)"),
+                                parameterWithName("type").optional().description("매장 유형").attributes(storeTypeAttribute()),
+                                parameterWithName("size").description("한 페이지에 보일 데이터 수"),
+                                parameterWithName("page").description("조회할 페이지")
+                        ),
+                        responseFields(
+                                pagingResponseFields(
+                                        fieldWithPath("id").type(JsonFieldType.NUMBER).description("매장 고유번호"),
+                                        fieldWithPath("storeType").type(JsonFieldType.STRING).description("매장 유형").attributes(storeTypeAttribute()),
+                                        fieldWithPath("storeStatus").type(JsonFieldType.STRING).description("매장 상태").attributes(storeStatusAttribute()),
+                                        fieldWithPath("storeName").type(JsonFieldType.STRING).description("매장 명"),
+                                        fieldWithPath("address").type(JsonFieldType.OBJECT).description("매장 주소 정보"),
+                                        fieldWithPath("address.zipCode").type(JsonFieldType.STRING).description("우편 번호"),
+                                        fieldWithPath("address.defaultAddress").type(JsonFieldType.STRING).description("기본 주소"),
+                                        fieldWithPath("address.detailAddress").type(JsonFieldType.STRING).optional().description("상세 주소"),
+                                        fieldWithPath("address.latitude").type(JsonFieldType.NUMBER).description("위도"),
+                                        fieldWithPath("address.longitude").type(JsonFieldType.NUMBER).description("경도"),
+                                        fieldWithPath("tel").type(JsonFieldType.STRING).description("연락처"),
+                                        fieldWithPath("homepageUrl").type(JsonFieldType.STRING).optional().description("홈페이지 URL"),
+                                        fieldWithPath("reservationUrl").type(JsonFieldType.STRING).optional().description("예약 사이트 URL"),
+                                        fieldWithPath("introduction").type(JsonFieldType.STRING).optional().description("매장 소개"),
+                                        fieldWithPath("tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    void 영업_중인_매장_목록_조회() throws Exception {
+        final int size = 10;
+        final int page = 1;
+        final List<StoreListDTO> storeList = new ArrayList<>(){{
+            add(initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+            add(initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2}));
+        }};
+        PageDTO<StoreListDTO> storeListPage = new PageDTO<>(storeList, storeList.size(), size, page, 1);
+        given(storeService.getOpenStoreList(any(), any(), anyInt(), anyInt())).willReturn(storeListPage);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/open-now")
+                        .param("openAt", "2022-02-19T10:00:00")
+                        .param("type", String.valueOf(StoreType.CAMP_GROUND))
+                        .param("size", String.valueOf(size))
+                        .param("page", String.valueOf(page))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andDo(document("store/open-now",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("openAt").optional().description("영업 여부를 확인할 일시 (yyyy-MM-dd'T'HH:mm:ss, 기본 현재 일시)"),
+                                parameterWithName("type").optional().description("매장 유형").attributes(storeTypeAttribute()),
                                 parameterWithName("size").description("한 페이지에 보일 데이터 수"),
                                 parameterWithName("page").description("조회할 페이지")
                         ),
@@ -378,6 +733,61 @@ class StoreControllerTest extends ControllerTest {
                 ));
     }
 
+    @Test
+    void 주변_매장_목록_조회() throws Exception {
+        final List<NearbyStoreDTO> storeList = new ArrayList<>(){{
+            add(new NearbyStoreDTO(0.52, initStoreListDTO(2L, new String[]{TAG_TITLE1, TAG_TITLE2})));
+            add(new NearbyStoreDTO(1.37, initStoreListDTO(1L, new String[]{TAG_TITLE1, TAG_TITLE2})));
+        }};
+        given(storeService.getNearbyStoreList(anyDouble(), anyDouble(), anyDouble(), any(), anyInt())).willReturn(storeList);
+
+        final ResultActions result = mockMvc.perform(
+                get("/store/nearby")
+                        .param("lat", "37.5665")
+                        .param("lng", "126.9780")
+                        .param("radiusKm", "5")
+                        .param("type", String.valueOf(StoreType.CAMP_GROUND))
+                        .param("size", "10")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(JWTUtil.AUTHORIZATION_HEADER, JWTUtil.BEARER_PREFIX + "{token}")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andDo(document("store/nearby",
+                        getDocumentRequest(),
+                        getDocumentResponse(),
+                        requestParameters(
+                                parameterWithName("lat").description("기준 위도"),
+                                parameterWithName("lng").description("기준 경도"),
+                                parameterWithName("radiusKm").description("검색 반경(km, 최대 50)"),
+                                parameterWithName("type").optional().description("매장 유형").attributes(storeTypeAttribute()),
+                                parameterWithName("size").optional().description("조회할 데이터 수 (default: 10, 최대 50)")
+                        ),
+                        responseFields(
+                                collectionResponseFields(
+                                        fieldWithPath("distance").type(JsonFieldType.NUMBER).description("기준 위치로부터의 거리(km)"),
+                                        fieldWithPath("store").type(JsonFieldType.OBJECT).description("매장 정보"),
+                                        fieldWithPath("store.id").type(JsonFieldType.NUMBER).description("매장 고유번호"),
+                                        fieldWithPath("store.storeType").type(JsonFieldType.STRING).description("매장 유형").attributes(storeTypeAttribute()),
+                                        fieldWithPath("store.storeStatus").type(JsonFieldType.STRING).description("매장 상태").attributes(storeStatusAttribute()),
+                                        fieldWithPath("store.storeName").type(JsonFieldType.STRING).description("매장 명"),
+                                        fieldWithPath("store.address").type(JsonFieldType.OBJECT).description("매장 주소 정보"),
+                                        fieldWithPath("store.address.zipCode").type(JsonFieldType.STRING).description("우편 번호"),
+                                        fieldWithPath("store.address.defaultAddress").type(JsonFieldType.STRING).description("기본 주소"),
+                                        fieldWithPath("store.address.detailAddress").type(JsonFieldType.STRING).optional().description("상세 주소"),
+                                        fieldWithPath("store.address.latitude").type(JsonFieldType.NUMBER).description("위도"),
+                                        fieldWithPath("store.address.longitude").type(JsonFieldType.NUMBER).description("경도"),
+                                        fieldWithPath("store.tel").type(JsonFieldType.STRING).description("연락처"),
+                                        fieldWithPath("store.homepageUrl").type(JsonFieldType.STRING).optional().description("홈페이지 URL"),
+                                        fieldWithPath("store.reservationUrl").type(JsonFieldType.STRING).optional().description("예약 사이트 URL"),
+                                        fieldWithPath("store.introduction").type(JsonFieldType.STRING).optional().description("매장 소개"),
+                                        fieldWithPath("store.tags[]").type(JsonFieldType.ARRAY).optional().description("태그")
+                                )
+                        )
+                ));
+    }
+
     @Test
     @WithMockCustomUser
     void 프로필_이미지_등록() throws Exception {
@@ -0,0 +1,84 @@
+package com.ss.camper.user.application;
+
+import com.ss.camper.user.domain.UserEmail;
+import com.ss.camper.user.domain.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    private static UserEmail userEmail(final long id, final String email) {
+        return new UserEmail() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    @Test
+    void 적재_전에는_항상_DB_조회() {
+        assertThat(registeredEmailFilter.mightExist("none@camper.com")).isTrue();
+    }
+
+    @Test
+    void 가입된_이메일_적재() {
+        given(userRepository.streamEmailsByIdGreaterThan(0L)).willReturn(Stream.of(
+            userEmail(1L, "user1@camper.com"), userEmail(2L, "User2@Camper.com")));
+
+        registeredEmailFilter.load();
+
+        assertThat(registeredEmailFilter.size()).isEqualTo(2);
+        assertThat(registeredEmailFilter.mightExist("user1@camper.com")).isTrue();
+        assertThat(registeredEmailFilter.mightExist("user2@camper.com")).isTrue();
+        assertThat(registeredEmailFilter.mightExist(" USER1@camper.com")).isTrue();
+        assertThat(registeredEmailFilter.mightExist("none@camper.com")).isFalse();
+    }
+
+    @Test
+    void 가입_즉시_추가() {
+        given(userRepository.streamEmailsByIdGreaterThan(0L)).willReturn(Stream.empty());
+        registeredEmailFilter.load();
+
+        registeredEmailFilter.add("new@camper.com");
+
+        assertThat(registeredEmailFilter.mightExist("new@camper.com")).isTrue();
+    }
+
+    @Test
+    void 다른_인스턴스_가입_반영() {
+        given(userRepository.streamEmailsByIdGreaterThan(0L)).willReturn(Stream.of(userEmail(150L, "user1@camper.com")));
+        registeredEmailFilter.load();
+
+        given(userRepository.streamEmailsByIdGreaterThan(anyLong())).willReturn(Stream.of(userEmail(151L, "user2@camper.com")));
+        registeredEmailFilter.refresh();
+
+        // 마지막 id 이전 일부 구간부터 다시 조회
+        verify(userRepository).streamEmailsByIdGreaterThan(50L);
+        assertThat(registeredEmailFilter.mightExist("user2@camper.com")).isTrue();
+        assertThat(registeredEmailFilter.size()).isEqualTo(2);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.ss.camper.user.application;
 
+import com.ss.camper.auth.application.TokenRevocationService;
 import com.ss.camper.user.application.dto.UserInfoDTO;
 import com.ss.camper.user.application.exception.AlreadySignUpEmailException;
 import com.ss.camper.user.application.exception.NotFoundUserException;
@@ -11,7 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.HashMap;
@@ -23,13 +24,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
 
-    @Spy
-    private ModelMapper modelMapper;
-
     @Spy
     private PasswordEncoder passwordEncoder;
 
@@ -42,12 +42,19 @@ class UserServiceTest {
     @Mock
     private BusinessUserRepository businessUserRepository;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
     @InjectMocks
     private UserService userService;
 
     @Test
     void 사용자_회원_회원가입() {
         ClientUser clientUser = initClientUser(1L);
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(true);
         given(userRepository.countByEmail(anyString())).willReturn(0L);
         given(clientUserRepository.save(any(ClientUser.class))).willReturn(clientUser);
 
@@ -63,6 +70,41 @@ class UserServiceTest {
         assertThat(result.getPhone()).isEqualTo(userInfoDTO.getPhone());
     }
 
+    @Test
+    void 사용자_회원_회원가입_이메일_필터에_없는_이메일() {
+        ClientUser clientUser = initClientUser(1L);
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(false);
+        given(clientUserRepository.save(any(ClientUser.class))).willReturn(clientUser);
+
+        final UserInfoDTO userInfoDTO = initUserInfoDTO(null, UserType.CLIENT);
+        userService.signUpClientUser(userInfoDTO, "1234", "1234");
+
+        verify(userRepository, never()).countByEmail(anyString());
+        verify(registeredEmailFilter).add(clientUser.getEmail());
+    }
+
+    @Test
+    void 사용자_회원_회원가입_이메일_필터에_없는_이미_가입된_이메일() {
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(false);
+        given(clientUserRepository.save(any(ClientUser.class))).willThrow(new DataIntegrityViolationException("uk_users_email"));
+        given(userRepository.countByEmail(anyString())).willReturn(1L);
+
+        final UserInfoDTO userInfoDTO = initUserInfoDTO(null, UserType.CLIENT);
+        assertThrows(AlreadySignUpEmailException.class, () -> userService.signUpClientUser(userInfoDTO, "1234", "1234"));
+        verify(registeredEmailFilter, never()).add(anyString());
+    }
+
+    @Test
+    void 사용자_회원_회원가입_이메일_외_제약_위반() {
+        final DataIntegrityViolationException exception = new DataIntegrityViolationException("Data too long for column 'nickname'");
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(false);
+        given(clientUserRepository.save(any(ClientUser.class))).willThrow(exception);
+        given(userRepository.countByEmail(anyString())).willReturn(0L);
+
+        final UserInfoDTO userInfoDTO = initUserInfoDTO(null, UserType.CLIENT);
+        assertThat(assertThrows(DataIntegrityViolationException.class, () -> userService.signUpClientUser(userInfoDTO, "1234", "1234"))).isSameAs(exception);
+    }
+
     @Test
     void 사용자_회원_회원가입_비밀번호_확인_불일치() {
         final UserInfoDTO userInfoDTO = initUserInfoDTO(null, UserType.CLIENT);
@@ -73,6 +115,7 @@ class UserServiceTest {
 
     @Test
     void 사용자_회원_회원가입_이미_가입된_이메일() {
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(true);
         given(userRepository.countByEmail(anyString())).willReturn(1L);
 
         final UserInfoDTO userInfoDTO = initUserInfoDTO(null, UserType.CLIENT);
@@ -84,6 +127,7 @@ class UserServiceTest {
     @Test
     void 사업자_회원_회원가입() {
         BusinessUser businessUser = initBusinessUser(1L);
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(true);
         given(userRepository.countByEmail(anyString())).willReturn(0L);
         given(businessUserRepository.save(any(BusinessUser.class))).willReturn(businessUser);
 
@@ -109,6 +153,7 @@ class UserServiceTest {
 
     @Test
     void 사업자_회원_회원가입_이미_가입된_이메일() {
+        given(registeredEmailFilter.mightExist(anyString())).willReturn(true);
         given(userRepository.countByEmail(anyString())).willReturn(1L);
         final UserInfoDTO userInfoDTO = initUserInfoDTO(null, UserType.BUSINESS);
         final String password = "1234";
@@ -120,7 +165,7 @@ class UserServiceTest {
     void 회원_정보_조회() {
         final long userId = 1;
         final ClientUser clientUser = initClientUser(userId);
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(clientUser));
+        given(userRepository.findProfileById(anyLong())).willReturn(Optional.of(clientUser));
 
         final UserInfoDTO result = userService.getUserInfo(userId);
 
@@ -133,7 +178,7 @@ class UserServiceTest {
 
     @Test
     void 존재하지_않는_회원_정보_조회() {
-        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(userRepository.findProfileById(anyLong())).willReturn(Optional.empty());
         assertThrows(NotFoundUserException.class, () -> userService.getUserInfo(anyLong()));
     }
 
@@ -141,7 +186,7 @@ class UserServiceTest {
     void 회원_정보_수정() {
         final long userId = 1;
         final ClientUser clientUser = initClientUser(userId);
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(clientUser));
+        given(userRepository.findProfileById(anyLong())).willReturn(Optional.of(clientUser));
 
         final UserInfoDTO userInfoDTO = UserInfoDTO.builder().nickname("김킴퍼2").phone("01022222222").build();
         final UserInfoDTO result = userService.updateUserInfo(userId, userInfoDTO);
@@ -153,7 +198,7 @@ class UserServiceTest {
 
     @Test
     void 존재하지_않는_회원_정보_수정() {
-        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(userRepository.findProfileById(anyLong())).willReturn(Optional.empty());
         assertThrows(NotFoundUserException.class, () -> userService.updateUserInfo(1L, any(UserInfoDTO.class)));
     }
 
@@ -166,6 +211,7 @@ class UserServiceTest {
         userService.withdrawUser(userId);
 
         assertThat(clientUser.isWithdrawal()).isTrue();
+        verify(tokenRevocationService).revokeUser(userId);
     }
 
     @Test
@@ -0,0 +1,135 @@
+package com.ss.camper.user.domain;
+
+import com.ss.camper.auth.application.AuthService;
+import com.ss.camper.common.util.StatementCounter;
+import com.ss.camper.oauth2.application.CustomUserDetailsService;
+import com.ss.camper.uploadFile.domain.FileType;
+import com.ss.camper.user.application.RegisteredEmailFilter;
+import com.ss.camper.user.application.UserAgreeTermsService;
+import com.ss.camper.user.application.UserService;
+import com.ss.camper.user.application.dto.UserInfoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.ss.camper.user.UserMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 조회 용도별 fetch plan 의 SQL 실행 횟수 확인
+ * 2차 캐시를 비운 상태에서 지연 로딩 없이 정해진 횟수만 실행되는지 StatementCounter 로 확인
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class UserFetchPlanTest {
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ClientUserRepository clientUserRepository;
+
+    @Autowired
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Autowired
+    private UserAgreeTermsService userAgreeTermsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    private ClientUser user;
+
+    @BeforeEach
+    void setUp() {
+        final String email = "fetch-plan-" + sequence.incrementAndGet() + "@camper.com";
+        user = clientUserRepository.save(ClientUser.builder()
+            .email(email)
+            .password(passwordEncoder.encode(PASSWORD))
+            .nickname(NICKNAME)
+            .phone(PHONE)
+            .profileImage(UserProfileImage.builder()
+                .fileType(FileType.USER_PROFILE)
+                .originName(PROFILE_ORIGIN_FILE_NAME)
+                .uploadName(PROFILE_UPDATE_FILE_NAME)
+                .fullPath(PROFILE_FULL_PATH)
+                .path(PROFILE_PATH)
+                .size(PROFILE_SIZE)
+                .ext(PROFILE_EXT)
+                .build())
+            .build());
+        registeredEmailFilter.add(email);
+
+        final Map<TermsType, Boolean> terms = new HashMap<>();
+        terms.put(TermsType.USE, true);
+        terms.put(TermsType.PRIVACY_POLICY, true);
+        userAgreeTermsService.agreeTerms(user.getId(), terms);
+        userAgreeTermsService.agreeTerms(user.getId(), terms);
+    }
+
+    private <T> T assertStatementCount(final long expected, final Supplier<T> supplier) {
+        entityManagerFactory.getCache().evictAll();
+        try (StatementCounter.Counter counter = StatementCounter.start()) {
+            final T result = supplier.get();
+            assertThat(counter.getCount()).as("SQL statement count").isEqualTo(expected);
+            return result;
+        }
+    }
+
+    @Test
+    void 회원_정보_조회() {
+        // users + social_auth + 프로필 이미지 + 현재 약관 동의 + 최신 약관 이력
+        final UserInfoDTO result = assertStatementCount(1, () -> userService.getUserInfo(user.getId()));
+
+        assertThat(result.getProfileImage().getUploadName()).isEqualTo(PROFILE_UPDATE_FILE_NAME);
+        assertThat(result.getUseAgreeTerms().getAgree()).isTrue();
+        assertThat(result.getPrivacyPolicyAgreeTerms().getAgree()).isTrue();
+    }
+
+    @Test
+    void 회원_정보_수정() {
+        // 조회 1회 + users update 1회
+        final UserInfoDTO result = assertStatementCount(2, () ->
+            userService.updateUserInfo(user.getId(), UserInfoDTO.builder().nickname("김캠퍼2").phone("01022222222").build()));
+
+        assertThat(result.getNickname()).isEqualTo("김캠퍼2");
+        assertThat(result.getProfileImage().getUploadName()).isEqualTo(PROFILE_UPDATE_FILE_NAME);
+        assertThat(result.getUseAgreeTerms().getAgree()).isTrue();
+    }
+
+    @Test
+    void 이메일_로그인() {
+        final UserInfoDTO result = assertStatementCount(1, () -> authService.signIn(user.getEmail(), PASSWORD));
+
+        assertThat(result.getId()).isEqualTo(user.getId());
+        assertThat(result.getPrivacyPolicyAgreeTerms().getAgree()).isTrue();
+    }
+
+    @Test
+    void 인증_회원_조회() {
+        // 인증은 users + social_auth 만 조회
+        assertStatementCount(1, () -> customUserDetailsService.loadUserByUsername(user.getEmail()));
+        assertStatementCount(1, () -> customUserDetailsService.loadUserById(user.getId()));
+    }
+
+}
@@ -41,6 +41,19 @@ public class UserTest {
         assertThat(clientUser.getUseAgreeTerms().isAgree()).isTrue();
         assertThat(clientUser.getPrivacyPolicyAgreeTerms().isAgree()).isTrue();
     }
+
+    @Test
+    public void 약관_동의_변경() {
+        final ClientUser clientUser = initClientUser(1L);
+        clientUser.agreeTerms(TermsType.USE, true);
+        clientUser.agreeTerms(TermsType.USE, false);
+
+        assertThat(clientUser.getAgreeTermsHistories().size()).isEqualTo(2);
+        assertThat(clientUser.getCurrentAgreeTerms().size()).isEqualTo(1);
+        assertThat(clientUser.getUseAgreeTerms().isAgree()).isFalse();
+        assertThat(clientUser.getPrivacyPolicyAgreeTerms()).isNull();
+    }
+
     @Test
     public void 프로필_이미지_삭제() {
         final ClientUser clientUser = initClientUser(1L);